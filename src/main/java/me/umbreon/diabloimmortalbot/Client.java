@@ -1,23 +1,48 @@
 package me.umbreon.diabloimmortalbot;
 
-import me.umbreon.diabloimmortalbot.languages.LanguageController;
+import me.umbreon.diabloimmortalbot.commands.CommandDispatcher;
+import me.umbreon.diabloimmortalbot.gameevents.GameEventRegistry;
+import me.umbreon.diabloimmortalbot.languages.MessageCatalog;
+import me.umbreon.diabloimmortalbot.database.CacheSynchronizer;
+import me.umbreon.diabloimmortalbot.database.DatabaseConnection;
 import me.umbreon.diabloimmortalbot.database.DatabaseRequests;
 import me.umbreon.diabloimmortalbot.database.MySQLDatabaseConnection;
+import me.umbreon.diabloimmortalbot.database.PooledDatabaseConnection;
+import me.umbreon.diabloimmortalbot.database.WriteBehindQueue;
+import me.umbreon.diabloimmortalbot.events.ChannelReconciler;
 import me.umbreon.diabloimmortalbot.events.MessageReceived;
+import me.umbreon.diabloimmortalbot.events.SlashCommandReceived;
 import me.umbreon.diabloimmortalbot.events.TextChannelDelete;
 import me.umbreon.diabloimmortalbot.notifier.CustomMessagesNotifier;
+import me.umbreon.diabloimmortalbot.notifier.MentionCache;
 import me.umbreon.diabloimmortalbot.notifier.Notifier;
+import me.umbreon.diabloimmortalbot.notifier.NotifierScheduler;
+import me.umbreon.diabloimmortalbot.notifier.OutboundMessageScheduler;
+import me.umbreon.diabloimmortalbot.notifier.ResolvedChannelRegistry;
 import me.umbreon.diabloimmortalbot.utils.ClientCache;
 import me.umbreon.diabloimmortalbot.utils.ClientConfig;
 import me.umbreon.diabloimmortalbot.utils.ClientLogger;
 import net.dv8tion.jda.api.JDA;
 import net.dv8tion.jda.api.JDABuilder;
+import net.dv8tion.jda.api.requests.GatewayIntent;
+import net.dv8tion.jda.api.sharding.DefaultShardManagerBuilder;
+import net.dv8tion.jda.api.sharding.ShardManager;
+import net.dv8tion.jda.api.utils.ChunkingFilter;
+import net.dv8tion.jda.api.utils.MemberCachePolicy;
 import org.apache.log4j.BasicConfigurator;
 
 import javax.security.auth.login.LoginException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Supplier;
 
 public class Client {
 
+    private static final List<GatewayIntent> MESSAGE_INTENTS = Arrays.asList(GatewayIntent.GUILD_MESSAGES, GatewayIntent.DIRECT_MESSAGES);
+
     public static void main(String[] args) {
 
         ClientCache clientCache = new ClientCache();
@@ -30,34 +55,160 @@ public class Client {
             return;
         }
 
-        ClientLogger.checkIfLogFolderExists(clientConfig.getLogFolderPath());
+        ClientLogger.start(clientConfig);
+
+        MessageCatalog.load();
+        GameEventRegistry gameEventRegistry = GameEventRegistry.load();
+
+        DatabaseConnection databaseConnection;
+        if (clientConfig.isDatabasePoolEnabled()) {
+            databaseConnection = new PooledDatabaseConnection(clientConfig);
+        } else {
+            databaseConnection = new MySQLDatabaseConnection(clientConfig);
+        }
 
-        LanguageController.loadConfigurations();
+        WriteBehindQueue writeBehindQueue = null;
+        if (clientConfig.isWriteBehindEnabled()) {
+            writeBehindQueue = new WriteBehindQueue(databaseConnection, clientConfig);
+            writeBehindQueue.start();
+        }
+        Runtime.getRuntime().addShutdownHook(new Thread(createShutdownHook(databaseConnection, writeBehindQueue)));
+        DatabaseRequests databaseRequests = new DatabaseRequests(databaseConnection, writeBehindQueue);
 
-        MySQLDatabaseConnection mySQLDatabaseConnection = new MySQLDatabaseConnection(clientConfig);
-        DatabaseRequests databaseRequests = new DatabaseRequests(mySQLDatabaseConnection);
+        CacheSynchronizer cacheSynchronizer = null;
+        if (clientConfig.isCacheSyncEnabled()) {
+            cacheSynchronizer = new CacheSynchronizer(databaseRequests, clientCache, writeBehindQueue, clientConfig);
+        }
 
         clientCache.setListWithNotificationChannels(databaseRequests.getAllNotificationChannels());
         clientCache.setListWithGuildInformation(databaseRequests.getAllGuilds());
         clientCache.setCustomMessagesList(databaseRequests.getAllCustomMessages());
 
-        Notifier notifier = new Notifier(databaseRequests, clientCache);
-        CustomMessagesNotifier customMessagesNotifier = new CustomMessagesNotifier(clientCache, databaseRequests);
+        if (cacheSynchronizer != null) {
+            cacheSynchronizer.start();
+        }
+
+        ResolvedChannelRegistry resolvedChannelRegistry = new ResolvedChannelRegistry(clientCache, databaseRequests);
+        MentionCache mentionCache = new MentionCache(clientCache);
+        OutboundMessageScheduler outboundMessageScheduler = new OutboundMessageScheduler(clientConfig);
+        outboundMessageScheduler.start();
+        Notifier notifier = new Notifier(databaseRequests, clientCache, gameEventRegistry, resolvedChannelRegistry,
+                mentionCache, outboundMessageScheduler);
+        CustomMessagesNotifier customMessagesNotifier = new CustomMessagesNotifier(clientCache, databaseRequests, resolvedChannelRegistry, outboundMessageScheduler);
         BasicConfigurator.configure();
 
-        JDA jda = null;
+        CommandDispatcher commandDispatcher = new CommandDispatcher(databaseRequests, clientCache, gameEventRegistry);
+        List<Object> eventListeners = new ArrayList<>(Arrays.asList(
+                commandDispatcher,
+                new TextChannelDelete(clientCache, databaseRequests),
+                resolvedChannelRegistry,
+                mentionCache));
+        if (clientConfig.isMessageCommandsEnabled()) {
+            eventListeners.add(new MessageReceived(commandDispatcher));
+        }
+        if (clientConfig.isSlashCommandsEnabled()) {
+            eventListeners.add(new SlashCommandReceived(commandDispatcher, clientCache));
+        }
+        if (clientConfig.isPruneEnabled()) {
+            eventListeners.add(new ChannelReconciler(clientCache, databaseRequests, clientConfig));
+        }
+
+        Supplier<? extends Collection<JDA>> shardSupplier;
         try {
-            jda = JDABuilder.createDefault(clientConfig.getToken())
-                    .addEventListeners(new MessageReceived(databaseRequests, clientCache))
-                    .addEventListeners(new TextChannelDelete(clientCache, databaseRequests))
-                    .build()
-                    .awaitReady();
+            if (clientConfig.isShardingEnabled()) {
+                ShardManager shardManager = startShards(clientConfig, eventListeners);
+                shardSupplier = shardManager::getShards;
+            } else {
+                JDA jda = createJDABuilder(clientConfig)
+                        .addEventListeners(eventListeners.toArray())
+                        .build();
+                if (!clientConfig.isJdaLeanCache()) {
+                    jda.awaitReady();
+                }
+                shardSupplier = () -> Collections.singletonList(jda);
+            }
         } catch (LoginException | InterruptedException e) {
             ClientLogger.createNewErrorLogEntry(e);
             return;
         }
 
-        notifier.runNotifierScheduler(jda);
-        customMessagesNotifier.runCustomMessagesNotifierScheduler(jda);
+        resolvedChannelRegistry.start(shardSupplier);
+        NotifierScheduler notifierScheduler = new NotifierScheduler(clientConfig, Arrays.asList(notifier, customMessagesNotifier));
+        notifierScheduler.start(shardSupplier);
+    }
+
+    /**
+     * The lean profile only receives guild messages for the prefix commands and caches guilds, channels, roles and
+     * the bot's own member.
+     * Members are neither cached nor chunked, the member of a message or interaction comes with the event itself.
+     */
+    private static JDABuilder createJDABuilder(ClientConfig clientConfig) {
+        if (!clientConfig.isJdaLeanCache()) {
+            JDABuilder jdaBuilder = JDABuilder.createDefault(clientConfig.getToken());
+            return clientConfig.isMessageCommandsEnabled() ? jdaBuilder : jdaBuilder.disableIntents(MESSAGE_INTENTS);
+        }
+
+        return JDABuilder.createLight(clientConfig.getToken(), getLeanIntents(clientConfig))
+                .setMemberCachePolicy(MemberCachePolicy.NONE)
+                .setChunkingFilter(ChunkingFilter.NONE);
+    }
+
+    private static DefaultShardManagerBuilder createShardManagerBuilder(ClientConfig clientConfig) {
+        if (!clientConfig.isJdaLeanCache()) {
+            DefaultShardManagerBuilder shardManagerBuilder = DefaultShardManagerBuilder.createDefault(clientConfig.getToken());
+            return clientConfig.isMessageCommandsEnabled() ? shardManagerBuilder : shardManagerBuilder.disableIntents(MESSAGE_INTENTS);
+        }
+
+        return DefaultShardManagerBuilder.createLight(clientConfig.getToken(), getLeanIntents(clientConfig))
+                .setMemberCachePolicy(MemberCachePolicy.NONE)
+                .setChunkingFilter(ChunkingFilter.NONE);
+    }
+
+    /**
+     * Without the prefix commands no message is needed, slash commands come without any intent.
+     */
+    private static List<GatewayIntent> getLeanIntents(ClientConfig clientConfig) {
+        return clientConfig.isMessageCommandsEnabled()
+                ? Collections.singletonList(GatewayIntent.GUILD_MESSAGES)
+                : Collections.emptyList();
+    }
+
+    /**
+     * Starts the shards configured with SHARD_TOTAL, SHARD_MIN and SHARD_MAX, or as many as Discord recommends.
+     * Without the lean cache profile this waits until all shards are ready, otherwise the shards keep starting in
+     * the background.
+     */
+    private static ShardManager startShards(ClientConfig clientConfig, List<Object> eventListeners) throws LoginException, InterruptedException {
+        DefaultShardManagerBuilder shardManagerBuilder = createShardManagerBuilder(clientConfig)
+                .addEventListeners(eventListeners.toArray());
+
+        int shardTotal = clientConfig.getShardTotal();
+        if (shardTotal > 0) {
+            shardManagerBuilder.setShardsTotal(shardTotal);
+            int shardMax = clientConfig.getShardMax() < 0 ? shardTotal - 1 : clientConfig.getShardMax();
+            shardManagerBuilder.setShards(clientConfig.getShardMin(), shardMax);
+        }
+
+        ShardManager shardManager = shardManagerBuilder.build();
+        if (!clientConfig.isJdaLeanCache()) {
+            while (shardManager.getShardsQueued() > 0) {
+                Thread.sleep(1000);
+            }
+            for (JDA shard : shardManager.getShards()) {
+                shard.awaitReady();
+            }
+        }
+        ClientLogger.createNewClientLogEntry("Starting " + shardManager.getShardsTotal() + " shard(s).");
+        return shardManager;
+    }
+
+    private static Runnable createShutdownHook(DatabaseConnection databaseConnection, WriteBehindQueue writeBehindQueue) {
+        return () -> {
+            if (writeBehindQueue != null) {
+                writeBehindQueue.shutdown();
+            }
+            databaseConnection.closeConnection();
+            ClientLogger.shutdown();
+        };
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,48 @@
+package me.umbreon.diabloimmortalbot.commands;
+
+import net.dv8tion.jda.api.entities.Guild;
+import net.dv8tion.jda.api.entities.Member;
+import net.dv8tion.jda.api.entities.MessageEmbed;
+import net.dv8tion.jda.api.entities.TextChannel;
+
+/**
+ * A command used in a text channel, either as prefix message or as slash command. The commands only talk to the
+ * context, so both ways run the same code.
+ */
+public interface CommandContext {
+
+    TextChannel getTextChannel();
+
+    Guild getGuild();
+
+    Member getMember();
+
+    /**
+     * @return the arguments as they are written with the prefix, the first one is the command itself.
+     */
+    String[] getArgs();
+
+    /**
+     * @return the prefix the user typed the command with, to point to other commands the same way.
+     */
+    String getCommandPrefix();
+
+    void reply(String message);
+
+    /**
+     * Replies with a message which is deleted after a few seconds.
+     */
+    void replyTemporarily(String message);
+
+    void replyEmbeds(MessageEmbed messageEmbed);
+
+    /**
+     * Called after an admin command ran successfully.
+     */
+    void finish();
+
+    /**
+     * Called if the command threw, replies with the message unless the user already got a reply.
+     */
+    void fail(String message);
+}
@@ -0,0 +1,236 @@
+package me.umbreon.diabloimmortalbot.commands;
+
+import me.umbreon.diabloimmortalbot.commands.custom_messages.CustomMessageCommand;
+import me.umbreon.diabloimmortalbot.commands.guilds_commands.NotificationsCommand;
+import me.umbreon.diabloimmortalbot.commands.guilds_commands.LanguageCommand;
+import me.umbreon.diabloimmortalbot.commands.help_commands.*;
+import me.umbreon.diabloimmortalbot.commands.notifier_commands.*;
+import me.umbreon.diabloimmortalbot.data.GuildInformation;
+import me.umbreon.diabloimmortalbot.database.DatabaseRequests;
+import me.umbreon.diabloimmortalbot.gameevents.GameEventRegistry;
+import me.umbreon.diabloimmortalbot.utils.ClientCache;
+import me.umbreon.diabloimmortalbot.utils.ClientLogger;
+import net.dv8tion.jda.api.Permission;
+import net.dv8tion.jda.api.entities.Guild;
+import net.dv8tion.jda.api.entities.Member;
+import net.dv8tion.jda.api.entities.Role;
+import net.dv8tion.jda.api.events.ReconnectedEvent;
+import net.dv8tion.jda.api.events.guild.GuildLeaveEvent;
+import net.dv8tion.jda.api.events.role.RoleCreateEvent;
+import net.dv8tion.jda.api.events.role.RoleDeleteEvent;
+import net.dv8tion.jda.api.events.role.update.RoleUpdateNameEvent;
+import net.dv8tion.jda.api.hooks.ListenerAdapter;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * Runs the commands of the prefix messages and the slash commands. Commands are looked up by their name with the
+ * prefix, the arguments are only parsed by the command itself.
+ */
+public class CommandDispatcher extends ListenerAdapter {
+
+    private static final String MISSING_MESSAGE_MANAGE = "Cannot perform action due to a lack of Permission. Missing permission: MESSAGE_MANAGE";
+    private static final String NO_PERMISSION_MESSAGE = "I do not have permissions. I am missing %s.";
+
+    private final RegisterCommand registerCommand;
+    private final StatusCommand statusCommand;
+    private final TimezoneCommand timezoneCommand;
+    private final RoleCommand roleCommand;
+    private final SubscribeCommand subscribeCommand;
+    private final UnregisterCommand unregisterCommand;
+    private final CheckTimeZoneCommand checkTimeZoneCommand;
+    private final HelpCommand helpCommand;
+    private final TimezonesCommand timezonesCommand;
+    private final LanguageCommand languageCommand;
+    private final WhatsMyChannelIdCommand whatsMyChannelIdCommand;
+    private final InstructionCommand instructionCommand;
+    private final LanguagesCommand languagesCommand;
+    private final NotificationsCommand notificationsCommand;
+    private final CustomMessageCommand customMessageCommand;
+
+    private final DatabaseRequests databaseRequests;
+    private final ClientCache clientCache;
+
+    // Every alias of every command, lower case and with the prefix.
+    private final Map<String, Command> commands = new HashMap<>();
+    private final Map<String, Command> publicCommands = new HashMap<>();
+    // The ids of the Bot Admin roles of every guild, looked up again when the roles of the guild change.
+    private final Map<Long, long[]> botAdminRoleIDs = new ConcurrentHashMap<>();
+
+    public CommandDispatcher(DatabaseRequests databaseRequests, ClientCache clientCache, GameEventRegistry gameEventRegistry) {
+        this.registerCommand = new RegisterCommand(databaseRequests, clientCache);
+        this.statusCommand = new StatusCommand(databaseRequests, clientCache);
+        this.timezoneCommand = new TimezoneCommand(databaseRequests, clientCache);
+        this.roleCommand = new RoleCommand(databaseRequests, clientCache);
+        this.subscribeCommand = new SubscribeCommand(databaseRequests, clientCache, gameEventRegistry);
+        this.unregisterCommand = new UnregisterCommand(databaseRequests, clientCache);
+        this.checkTimeZoneCommand = new CheckTimeZoneCommand(clientCache);
+        this.helpCommand = new HelpCommand();
+        this.timezonesCommand = new TimezonesCommand();
+        this.languageCommand = new LanguageCommand(clientCache, databaseRequests);
+        this.whatsMyChannelIdCommand = new WhatsMyChannelIdCommand();
+        this.instructionCommand = new InstructionCommand();
+        this.languagesCommand = new LanguagesCommand();
+        this.notificationsCommand = new NotificationsCommand(clientCache, databaseRequests);
+        this.customMessageCommand = new CustomMessageCommand(clientCache, databaseRequests);
+
+        this.clientCache = clientCache;
+        this.databaseRequests = databaseRequests;
+
+        addCommand(commands, context -> registerCommand.runRegisterCommand(context), true, ">notifier", ">register");
+        addCommand(commands, context -> unregisterCommand.runUnregisterCommand(context), true, ">unnotifier", ">unregister");
+        addCommand(commands, context -> statusCommand.runStatusCommand(context), true, ">status");
+        addCommand(commands, context -> timezoneCommand.onTimezoneCommand(context), true, ">timezone");
+        addCommand(commands, context -> roleCommand.runRoleCommand(context), true, ">role");
+        addCommand(commands, context -> subscribeCommand.runSubscribeCommand(context, true), true, ">subscribe");
+        addCommand(commands, context -> subscribeCommand.runSubscribeCommand(context, false), true, ">unsubscribe");
+        addCommand(commands, context -> helpCommand.runHelpCommand(context), true, ">help");
+        addCommand(commands, context -> checkTimeZoneCommand.runCheckTimezoneCommand(context), true, ">checktimezone", ">ctz", ">checktz");
+        addCommand(commands, context -> timezonesCommand.runTimezonesCommand(context), true, ">timezones");
+        addCommand(commands, context -> languageCommand.runLanguageCommand(context), true, ">language");
+        addCommand(commands, context -> whatsMyChannelIdCommand.runWhatsMyChannelIdCommand(context), true, ">whatismychannelid");
+        addCommand(commands, context -> instructionCommand.runInstructionCommand(context), true, ">instructions", ">instruction", ">install");
+        addCommand(commands, context -> languagesCommand.runLanguagesCommand(context), true, ">languages");
+        addCommand(commands, context -> notificationsCommand.runNotificationsCommand(context), true, ">notifications", ">notification");
+        addCommand(commands, context -> customMessageCommand.runCustomMessageCommand(context), false, ">cm", ">customessage");
+
+        // Members without the Bot Admin role, but with the permission to manage messages.
+        addCommand(publicCommands, context -> instructionCommand.runInstructionCommand(context), false, ">instruction", ">instructions", ">install");
+        addCommand(publicCommands, context -> helpCommand.runHelpCommand(context), false, ">help");
+    }
+
+    public DispatchResult dispatch(String commandName, CommandContext context) {
+        Command command = commands.get(commandName);
+        if (command == null) {
+            return DispatchResult.UNKNOWN_COMMAND;
+        }
+
+        String channelID = context.getTextChannel().getId();
+        if (clientCache.doNotificationChannelExists(channelID)) {
+            String guildID = context.getGuild().getId();
+            registerGuildIfDoNotExist(guildID);
+        }
+
+        Member member = context.getMember();
+        boolean botAdmin = isBotAdmin(member);
+        if (!botAdmin) {
+            command = publicCommands.get(commandName);
+            if (command == null || !member.hasPermission(Permission.MESSAGE_MANAGE)) {
+                return DispatchResult.NOT_PERMITTED;
+            }
+        }
+
+        try {
+            command.action.accept(context);
+            if (botAdmin) {
+                if (command.logged) {
+                    logCommandExecution(member.getEffectiveName(), context);
+                }
+                context.finish();
+            }
+        } catch (Exception e) {
+            if (!checkForMissingPermissionsError(e.getMessage(), member)) {
+                e.printStackTrace();
+            }
+            context.fail("Something went wrong while running this command.");
+        }
+        return DispatchResult.EXECUTED;
+    }
+
+    @Override
+    public void onRoleCreate(RoleCreateEvent event) {
+        botAdminRoleIDs.remove(event.getGuild().getIdLong());
+    }
+
+    @Override
+    public void onRoleDelete(RoleDeleteEvent event) {
+        botAdminRoleIDs.remove(event.getGuild().getIdLong());
+    }
+
+    @Override
+    public void onRoleUpdateName(RoleUpdateNameEvent event) {
+        botAdminRoleIDs.remove(event.getGuild().getIdLong());
+    }
+
+    @Override
+    public void onGuildLeave(GuildLeaveEvent event) {
+        botAdminRoleIDs.remove(event.getGuild().getIdLong());
+    }
+
+    /**
+     * Roles changed while the shard was disconnected send no event.
+     */
+    @Override
+    public void onReconnected(ReconnectedEvent event) {
+        event.getJDA().getGuildCache().forEach(guild -> botAdminRoleIDs.remove(guild.getIdLong()));
+    }
+
+    private boolean checkForMissingPermissionsError(String errorMessage, Member member) {
+        if (MISSING_MESSAGE_MANAGE.equals(errorMessage)) {
+            member.getUser().openPrivateChannel().queue(channel -> {
+                channel.sendMessage(String.format(NO_PERMISSION_MESSAGE, "Manage Messages")).queue();
+            });
+            return true;
+        }
+        return false;
+    }
+
+    private boolean isBotAdmin(Member member) {
+        long[] roleIDs = botAdminRoleIDs.computeIfAbsent(member.getGuild().getIdLong(), guildID -> findBotAdminRoleIDs(member.getGuild()));
+        if (roleIDs.length == 0) {
+            return false;
+        }
+
+        for (Role role : member.getRoles()) {
+            for (long roleID : roleIDs) {
+                if (role.getIdLong() == roleID) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private long[] findBotAdminRoleIDs(Guild guild) {
+        List<Role> roles = guild.getRolesByName("Bot Admin", true);
+        long[] roleIDs = new long[roles.size()];
+        for (int i = 0; i < roleIDs.length; i++) {
+            roleIDs[i] = roles.get(i).getIdLong();
+        }
+        return roleIDs;
+    }
+
+    private void addCommand(Map<String, Command> commands, Consumer<CommandContext> action, boolean logged, String... aliases) {
+        Command command = new Command(action, logged);
+        for (String alias : aliases) {
+            commands.put(alias, command);
+        }
+    }
+
+    private void registerGuildIfDoNotExist(String guildID) {
+        if (!clientCache.doGuildExists(guildID)) {
+            GuildInformation guildInformation = new GuildInformation(guildID, "ENG", true, true, true);
+            clientCache.addGuildInformation(guildInformation);
+            databaseRequests.createNewGuildEntry(guildInformation);
+        }
+    }
+
+    private void logCommandExecution(String userName, CommandContext command) {
+        ClientLogger.createNewClientLogEntry(userName + " used: " + command);
+    }
+
+    private static class Command {
+
+        private final Consumer<CommandContext> action;
+        private final boolean logged;
+
+        private Command(Consumer<CommandContext> action, boolean logged) {
+            this.action = action;
+            this.logged = logged;
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package me.umbreon.diabloimmortalbot.commands;
+
+/**
+ * What {@link CommandDispatcher#dispatch(String, CommandContext)} did with a command.
+ */
+public enum DispatchResult {
+
+    EXECUTED,
+    UNKNOWN_COMMAND,
+    // The member neither has the Bot Admin role nor may use the command as public command.
+    NOT_PERMITTED
+}
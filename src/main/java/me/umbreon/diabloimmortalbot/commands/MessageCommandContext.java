@@ -0,0 +1,86 @@
+package me.umbreon.diabloimmortalbot.commands;
+
+import net.dv8tion.jda.api.entities.Guild;
+import net.dv8tion.jda.api.entities.Member;
+import net.dv8tion.jda.api.entities.Message;
+import net.dv8tion.jda.api.entities.MessageEmbed;
+import net.dv8tion.jda.api.entities.TextChannel;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A command written as message with the prefix. Replies go to the channel and the command message is deleted once
+ * the command ran.
+ */
+public class MessageCommandContext implements CommandContext {
+
+    private final Message message;
+    private String[] args;
+
+    public MessageCommandContext(Message message) {
+        this.message = message;
+    }
+
+    @Override
+    public TextChannel getTextChannel() {
+        return message.getTextChannel();
+    }
+
+    @Override
+    public Guild getGuild() {
+        return message.getGuild();
+    }
+
+    @Override
+    public Member getMember() {
+        return message.getMember();
+    }
+
+    /**
+     * Split on first use, most commands only look at their name.
+     */
+    @Override
+    public String[] getArgs() {
+        if (args == null) {
+            args = message.getContentRaw().split(" ");
+        }
+        return args;
+    }
+
+    @Override
+    public String getCommandPrefix() {
+        return ">";
+    }
+
+    @Override
+    public void reply(String message) {
+        getTextChannel().sendMessage(message).queue();
+    }
+
+    @Override
+    public void replyTemporarily(String message) {
+        getTextChannel().sendMessage(message).queue(sendMessage -> sendMessage.delete().queueAfter(10, TimeUnit.SECONDS));
+    }
+
+    @Override
+    public void replyEmbeds(MessageEmbed messageEmbed) {
+        getTextChannel().sendMessageEmbeds(messageEmbed).queue();
+    }
+
+    @Override
+    public void finish() {
+        message.delete().queue();
+    }
+
+    /**
+     * The command message stays in the channel, so the user sees the command had no effect.
+     */
+    @Override
+    public void fail(String message) {
+    }
+
+    @Override
+    public String toString() {
+        return message.toString();
+    }
+}
@@ -0,0 +1,87 @@
+package me.umbreon.diabloimmortalbot.commands;
+
+import net.dv8tion.jda.api.entities.Guild;
+import net.dv8tion.jda.api.entities.Member;
+import net.dv8tion.jda.api.entities.MessageEmbed;
+import net.dv8tion.jda.api.entities.TextChannel;
+import net.dv8tion.jda.api.events.interaction.command.SlashCommandInteractionEvent;
+
+/**
+ * A slash command whose reply is deferred. Replies are sent through the interaction hook and are only visible to
+ * the user, so they do not have to be deleted.
+ */
+public class SlashCommandContext implements CommandContext {
+
+    private final SlashCommandInteractionEvent event;
+    private final String[] args;
+    private boolean replied;
+
+    /**
+     * @param args the options of the command, in the order the prefix command expects them.
+     */
+    public SlashCommandContext(SlashCommandInteractionEvent event, String[] args) {
+        this.event = event;
+        this.args = args;
+    }
+
+    @Override
+    public TextChannel getTextChannel() {
+        return event.getTextChannel();
+    }
+
+    @Override
+    public Guild getGuild() {
+        return event.getGuild();
+    }
+
+    @Override
+    public Member getMember() {
+        return event.getMember();
+    }
+
+    @Override
+    public String[] getArgs() {
+        return args;
+    }
+
+    @Override
+    public String getCommandPrefix() {
+        return "/";
+    }
+
+    @Override
+    public void reply(String message) {
+        replied = true;
+        event.getHook().sendMessage(message).queue();
+    }
+
+    @Override
+    public void replyTemporarily(String message) {
+        reply(message);
+    }
+
+    @Override
+    public void replyEmbeds(MessageEmbed messageEmbed) {
+        replied = true;
+        event.getHook().sendMessageEmbeds(messageEmbed).queue();
+    }
+
+    @Override
+    public void finish() {
+    }
+
+    /**
+     * The reply is deferred, without a reply the interaction is shown as loading until it times out.
+     */
+    @Override
+    public void fail(String message) {
+        if (!replied) {
+            reply(message);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return event.getCommandString();
+    }
+}
@@ -1,8 +1,8 @@
 package me.umbreon.diabloimmortalbot.commands.custom_messages;
 
+import me.umbreon.diabloimmortalbot.commands.CommandContext;
 import me.umbreon.diabloimmortalbot.database.DatabaseRequests;
 import me.umbreon.diabloimmortalbot.utils.ClientCache;
-import net.dv8tion.jda.api.entities.Message;
 
 public class CustomMessageCommand {
 
@@ -16,18 +16,18 @@ public class CustomMessageCommand {
         customMessageList = new CustomMessageList(clientCache);
     }
 
-    public void runCustomMessageCommand(Message message) {
-        String[] args = message.getContentRaw().split(" ");
+    public void runCustomMessageCommand(CommandContext context) {
+        String[] args = context.getArgs();
 
         switch (args[1].toLowerCase()) {
             case "create":
-                customMessageCreate.runCustomMessageCreateCommand(message);
+                customMessageCreate.runCustomMessageCreateCommand(context);
                 break;
             case "delete":
-                customMessageDelete.runCustomMessageDelete(message);
+                customMessageDelete.runCustomMessageDelete(context);
                 break;
             case "list":
-                customMessageList.runCustomMessageList(message);
+                customMessageList.runCustomMessageList(context);
                 break;
         }
     }
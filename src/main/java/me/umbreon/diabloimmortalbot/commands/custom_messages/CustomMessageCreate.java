@@ -1,13 +1,14 @@
 package me.umbreon.diabloimmortalbot.commands.custom_messages;
 
-import me.umbreon.diabloimmortalbot.languages.LanguageController;
+import me.umbreon.diabloimmortalbot.commands.CommandContext;
+import me.umbreon.diabloimmortalbot.languages.MessageCatalog;
+import me.umbreon.diabloimmortalbot.languages.MessageKey;
 import me.umbreon.diabloimmortalbot.data.CustomMessage;
 import me.umbreon.diabloimmortalbot.database.DatabaseRequests;
 import me.umbreon.diabloimmortalbot.utils.BooleanAssistant;
 import me.umbreon.diabloimmortalbot.utils.ClientCache;
 import me.umbreon.diabloimmortalbot.utils.ClientLogger;
 import net.dv8tion.jda.api.EmbedBuilder;
-import net.dv8tion.jda.api.entities.Message;
 import net.dv8tion.jda.api.entities.MessageEmbed;
 import net.dv8tion.jda.api.entities.TextChannel;
 
@@ -26,29 +27,28 @@ public class CustomMessageCreate {
         this.databaseRequests = databaseRequests;
     }
 
-    public void runCustomMessageCreateCommand(Message message) {
-        TextChannel textChannel = message.getTextChannel();
-        String[] args = message.getContentRaw().split(" ");
+    public void runCustomMessageCreateCommand(CommandContext context) {
+        String[] args = context.getArgs();
         String weekday = args[3];
         String time = args[4];
         if (!areArgumentsValid(weekday, time, args)) {
-            textChannel.sendMessageEmbeds(buildInvalidCommandUsageEmbed()).queue();
+            context.replyEmbeds(buildInvalidCommandUsageEmbed());
             return;
         }
 
         //Replaces non numbers with empty space to get the clear id
         String textchannelID = args[2].replaceAll("[^\\d.]", "");
-        String guildID = message.getGuild().getId();
+        String guildID = context.getGuild().getId();
         String language = clientCache.getLanguage(guildID);
         TextChannel targetTextChannel;
         try {
-            targetTextChannel = message.getGuild().getTextChannelById(textchannelID);
+            targetTextChannel = context.getGuild().getTextChannelById(textchannelID);
         } catch (IllegalArgumentException e) {
             if (e.getMessage().equalsIgnoreCase("ID may not be empty")) {
-                textChannel.sendMessageEmbeds(createChannelDoesNotExistEmbed(language)).queue();
+                context.replyEmbeds(createChannelDoesNotExistEmbed(language));
             } else {
-                textChannel.sendMessage("An error has occurred. Please report error \"0001\". No action " +
-                        "has been performed.").queue();
+                context.reply("An error has occurred. Please report error \"0001\". No action " +
+                        "has been performed.");
                 ClientLogger.createNewErrorLogEntry(e);
                 e.printStackTrace();
             }
@@ -62,18 +62,22 @@ public class CustomMessageCreate {
         } else if (BooleanAssistant.isValueFalse(repeatValue)) {
             repeat = false;
         } else {
-            textChannel.sendMessageEmbeds(buildInvalidCommandUsageEmbed()).queue();
+            context.replyEmbeds(buildInvalidCommandUsageEmbed());
             return;
         }
 
         String notificationMessage = getNotificationMessage(args);
         CustomMessage customMessage = new CustomMessage(textchannelID, guildID, notificationMessage, weekday, time, repeat);
+        int customMessageID = databaseRequests.createNewCustomMessageEntry(customMessage);
+        if (customMessageID == -1) {
+            context.reply("An error has occurred. Please report error \"0002\". No action " +
+                    "has been performed.");
+            return;
+        }
+        customMessage.setCustomMessageID(customMessageID);
         clientCache.addCustomMessageToList(customMessage);
-        databaseRequests.createNewCustomMessageEntry(customMessage);
-        //todo: remove this.
-        clientCache.setCustomMessagesList(databaseRequests.getAllCustomMessages());
 
-        textChannel.sendMessageEmbeds(buildNewCustomMessageCreatedMessage(language)).queue();
+        context.replyEmbeds(buildNewCustomMessageCreatedMessage(language));
     }
 
     private String getNotificationMessage(String[] args) {
@@ -138,14 +142,14 @@ public class CustomMessageCreate {
     private MessageEmbed createChannelDoesNotExistEmbed(String language) {
         EmbedBuilder embedBuilder = new EmbedBuilder();
         embedBuilder.setColor(Color.RED);
-        embedBuilder.addField(LanguageController.getChannelNotFoundMessage(language), LanguageController.getDoBotGotRightsMessage(language), false);
+        embedBuilder.addField(MessageCatalog.get(MessageKey.CHANNEL_NOT_FOUND, language), MessageCatalog.get(MessageKey.DO_BOT_GOT_RIGHTS, language), false);
         return embedBuilder.build();
     }
 
     private MessageEmbed buildNewCustomMessageCreatedMessage(String language) {
         EmbedBuilder embedBuilder = new EmbedBuilder();
         embedBuilder.setColor(Color.GRAY);
-        embedBuilder.setTitle(LanguageController.getCustomMessageCreated(language));
+        embedBuilder.setTitle(MessageCatalog.get(MessageKey.CUSTOM_MESSAGE_CREATED, language));
         return embedBuilder.build();
     }
 
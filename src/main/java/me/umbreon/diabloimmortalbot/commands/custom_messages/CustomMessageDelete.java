@@ -1,10 +1,11 @@
 package me.umbreon.diabloimmortalbot.commands.custom_messages;
 
-import me.umbreon.diabloimmortalbot.languages.LanguageController;
+import me.umbreon.diabloimmortalbot.commands.CommandContext;
+import me.umbreon.diabloimmortalbot.languages.MessageCatalog;
+import me.umbreon.diabloimmortalbot.languages.MessageKey;
 import me.umbreon.diabloimmortalbot.database.DatabaseRequests;
 import me.umbreon.diabloimmortalbot.utils.ClientCache;
 import net.dv8tion.jda.api.EmbedBuilder;
-import net.dv8tion.jda.api.entities.Message;
 import net.dv8tion.jda.api.entities.MessageEmbed;
 import net.dv8tion.jda.api.entities.TextChannel;
 
@@ -25,12 +26,12 @@ public class CustomMessageDelete {
         this.databaseRequests = databaseRequests;
     }
 
-    public void runCustomMessageDelete(Message message) {
-        String[] args = message.getContentRaw().split(" ");
-        TextChannel textChannel = message.getTextChannel();
+    public void runCustomMessageDelete(CommandContext context) {
+        String[] args = context.getArgs();
+        TextChannel textChannel = context.getTextChannel();
 
         if (!areArgumentsValid(args)) {
-            textChannel.sendMessageEmbeds(invalidCommandUsageEmbed).queue();
+            context.replyEmbeds(invalidCommandUsageEmbed);
             return;
         }
 
@@ -39,14 +40,14 @@ public class CustomMessageDelete {
         String language = clientCache.getLanguage(guildID);
         clientCache.deleteCustomMessageByID(customMessageID);
         databaseRequests.deleteCustomMessageEntry(customMessageID);
-        textChannel.sendMessageEmbeds(buildCustomMessageDeletedEmbed(customMessageID, language)).queue();
+        context.replyEmbeds(buildCustomMessageDeletedEmbed(customMessageID, language));
     }
 
     private MessageEmbed buildCustomMessageDeletedEmbed(int customMessageID, String language) {
         EmbedBuilder embedBuilder = new EmbedBuilder();
 
         embedBuilder.setColor(Color.GRAY);
-        embedBuilder.addField(LanguageController.getCustomMessageDeletedMessage(language), String.format(LanguageController.getCustomMessageWithIdDeleted(language), customMessageID), false);
+        embedBuilder.addField(MessageCatalog.get(MessageKey.CUSTOM_MESSAGE_DELETED, language), String.format(MessageCatalog.get(MessageKey.CUSTOM_MESSAGE_WITH_ID_DELETED, language), customMessageID), false);
 
         return embedBuilder.build();
     }
@@ -1,12 +1,12 @@
 package me.umbreon.diabloimmortalbot.commands.custom_messages;
 
-import me.umbreon.diabloimmortalbot.languages.LanguageController;
+import me.umbreon.diabloimmortalbot.commands.CommandContext;
+import me.umbreon.diabloimmortalbot.languages.MessageCatalog;
+import me.umbreon.diabloimmortalbot.languages.MessageKey;
 import me.umbreon.diabloimmortalbot.data.CustomMessage;
 import me.umbreon.diabloimmortalbot.utils.ClientCache;
 import net.dv8tion.jda.api.EmbedBuilder;
-import net.dv8tion.jda.api.entities.Message;
 import net.dv8tion.jda.api.entities.MessageEmbed;
-import net.dv8tion.jda.api.entities.TextChannel;
 
 import java.awt.*;
 import java.util.List;
@@ -22,26 +22,25 @@ public class CustomMessageList {
         this.clientCache = clientCache;
     }
 
-    public void runCustomMessageList(Message message) {
-        TextChannel textChannel = message.getTextChannel();
-        String guildID = message.getGuild().getId();
+    public void runCustomMessageList(CommandContext context) {
+        String guildID = context.getGuild().getId();
 
         List<CustomMessage> customMessageList = clientCache.getAllCustomMessagesByGuildID(guildID);
         String language = clientCache.getLanguage(guildID);
         if (customMessageList.size() == 0) {
-            textChannel.sendMessage(LanguageController.getNoCustomMessagesMessage(language)).queue();
+            context.reply(MessageCatalog.get(MessageKey.NO_CUSTOM_MESSAGES, language));
             return;
         }
 
         MessageEmbed messageEmbed = buildCustomMessagesListEmbed(customMessageList, language);
-        textChannel.sendMessageEmbeds(messageEmbed).queue();
+        context.replyEmbeds(messageEmbed);
     }
 
     private MessageEmbed buildCustomMessagesListEmbed(List<CustomMessage> customMessageList, String language) {
         EmbedBuilder embedBuilder = new EmbedBuilder();
 
         embedBuilder.setColor(Color.GRAY);
-        embedBuilder.setTitle(LanguageController.getYourCustomMessagesMessage(language));
+        embedBuilder.setTitle(MessageCatalog.get(MessageKey.YOUR_CUSTOM_MESSAGES, language));
 
         customMessageList.forEach(customMessage -> {
             String customMessageMessage;
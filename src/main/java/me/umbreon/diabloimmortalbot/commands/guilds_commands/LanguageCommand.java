@@ -1,12 +1,11 @@
 package me.umbreon.diabloimmortalbot.commands.guilds_commands;
 
-import me.umbreon.diabloimmortalbot.languages.LanguageController;
+import me.umbreon.diabloimmortalbot.commands.CommandContext;
+import me.umbreon.diabloimmortalbot.languages.Language;
+import me.umbreon.diabloimmortalbot.languages.MessageCatalog;
+import me.umbreon.diabloimmortalbot.languages.MessageKey;
 import me.umbreon.diabloimmortalbot.database.DatabaseRequests;
 import me.umbreon.diabloimmortalbot.utils.ClientCache;
-import net.dv8tion.jda.api.entities.Message;
-import net.dv8tion.jda.api.entities.TextChannel;
-
-import java.util.concurrent.TimeUnit;
 
 public class LanguageCommand {
 
@@ -18,44 +17,33 @@ public class LanguageCommand {
         this.databaseRequests = databaseRequests;
     }
 
-    public void runLanguageCommand(Message message) {
-        TextChannel textChannel = message.getTextChannel();
-        String[] args = message.getContentRaw().split(" ");
+    public void runLanguageCommand(CommandContext context) {
+        String[] args = context.getArgs();
 
         if (args.length == 1) {
-            String responseMessage = "Invalid command. Use >help";
-            textChannel.sendMessage(responseMessage).queue(sendMessage -> sendMessage.delete().queueAfter(10, TimeUnit.SECONDS));
+            String responseMessage = "Invalid command. Use " + context.getCommandPrefix() + "help";
+            context.replyTemporarily(responseMessage);
             return;
         }
 
         String language = args[1].toUpperCase();
-        String guildID = message.getGuild().getId();
+        String guildID = context.getGuild().getId();
         String defaultLanguage = "ENG";
 
         if (!isLanguageSupported(language)) {
-            String responseMessage = LanguageController.getLanguageNotSupportedMessage(defaultLanguage);
-            textChannel.sendMessage(responseMessage).queue(sendMessage -> sendMessage.delete().queueAfter(10, TimeUnit.SECONDS));
+            String responseMessage = MessageCatalog.get(MessageKey.LANGUAGE_NOT_SUPPORTED, defaultLanguage);
+            context.replyTemporarily(responseMessage);
             return;
         }
 
         databaseRequests.setGuildLanguage(guildID, language);
         clientCache.setLanguage(guildID, language);
 
-        String responseMessage = String.format(LanguageController.getLanguageUpdatedMessage(defaultLanguage), language);
-        textChannel.sendMessage(responseMessage).queue(sendMessage -> sendMessage.delete().queueAfter(10, TimeUnit.SECONDS));
+        String responseMessage = String.format(MessageCatalog.get(MessageKey.LANGUAGE_UPDATED, defaultLanguage), language);
+        context.replyTemporarily(responseMessage);
     }
 
     private boolean isLanguageSupported(String lang) {
-        switch (lang) {
-            case "GER":
-            case "ENG":
-            case "ESP":
-            case "FRA":
-            case "POL":
-            case "ITA":
-                return true;
-            default:
-                return false;
-        }
+        return Language.parse(lang) != null;
     }
 }
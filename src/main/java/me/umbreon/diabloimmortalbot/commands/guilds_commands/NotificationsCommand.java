@@ -1,11 +1,12 @@
 package me.umbreon.diabloimmortalbot.commands.guilds_commands;
 
-import me.umbreon.diabloimmortalbot.languages.LanguageController;
+import me.umbreon.diabloimmortalbot.commands.CommandContext;
+import me.umbreon.diabloimmortalbot.languages.MessageCatalog;
+import me.umbreon.diabloimmortalbot.languages.MessageKey;
 import me.umbreon.diabloimmortalbot.database.DatabaseRequests;
 import me.umbreon.diabloimmortalbot.utils.BooleanAssistant;
 import me.umbreon.diabloimmortalbot.utils.ClientCache;
 import net.dv8tion.jda.api.EmbedBuilder;
-import net.dv8tion.jda.api.entities.Message;
 import net.dv8tion.jda.api.entities.MessageEmbed;
 import net.dv8tion.jda.api.entities.TextChannel;
 
@@ -37,13 +38,13 @@ public class NotificationsCommand {
         buildInvalidCommandEmbed();
     }
 
-    public void runNotificationsCommand(Message message) {
-        TextChannel textChannel = message.getTextChannel();
-        String[] args = message.getContentRaw().split(" ");
+    public void runNotificationsCommand(CommandContext context) {
+        TextChannel textChannel = context.getTextChannel();
+        String[] args = context.getArgs();
         String selectedEvent = args[1];
 
         if (!listWithEvents.contains(selectedEvent)) {
-            textChannel.sendMessageEmbeds(eventNotAvailableEmbed).queue();
+            context.replyEmbeds(eventNotAvailableEmbed);
             return;
         }
 
@@ -51,17 +52,17 @@ public class NotificationsCommand {
         String language = clientCache.getLanguage(guildID);
         if (BooleanAssistant.isValueTrue(args[2])) {
             setEventValue(guildID, true, selectedEvent);
-            textChannel.sendMessageEmbeds(buildEventUpdatedMessageEmbed(selectedEvent, true, language)).queue();
+            context.replyEmbeds(buildEventUpdatedMessageEmbed(selectedEvent, true, language));
             return;
         }
 
         if (BooleanAssistant.isValueFalse(args[2])) {
             setEventValue(guildID, false, selectedEvent);
-            textChannel.sendMessageEmbeds(buildEventUpdatedMessageEmbed(selectedEvent, false, language)).queue();
+            context.replyEmbeds(buildEventUpdatedMessageEmbed(selectedEvent, false, language));
             return;
         }
 
-        textChannel.sendMessageEmbeds(invalidCommandEmbed).queue();
+        context.replyEmbeds(invalidCommandEmbed);
     }
 
     private void fillListWithEvents() {
@@ -110,9 +111,9 @@ public class NotificationsCommand {
         String responseMessage;
 
         if (value) {
-            responseMessage = String.format(LanguageController.getEventEnabledMessage(language), event);
+            responseMessage = String.format(MessageCatalog.get(MessageKey.EVENT_ENABLED, language), event);
         } else {
-            responseMessage = String.format(LanguageController.getEventDisabledMessage(language), event);
+            responseMessage = String.format(MessageCatalog.get(MessageKey.EVENT_DISABLED, language), event);
         }
 
         eventUpdatedMessageEmbedBuilder.setTitle(responseMessage);
@@ -1,16 +1,15 @@
 package me.umbreon.diabloimmortalbot.commands.help_commands;
 
-import me.umbreon.diabloimmortalbot.languages.LanguageController;
+import me.umbreon.diabloimmortalbot.commands.CommandContext;
+import me.umbreon.diabloimmortalbot.languages.MessageCatalog;
+import me.umbreon.diabloimmortalbot.languages.MessageKey;
 import me.umbreon.diabloimmortalbot.utils.ClientCache;
 import me.umbreon.diabloimmortalbot.utils.Time;
 import net.dv8tion.jda.api.EmbedBuilder;
 import net.dv8tion.jda.api.entities.Guild;
-import net.dv8tion.jda.api.entities.Message;
 import net.dv8tion.jda.api.entities.MessageEmbed;
-import net.dv8tion.jda.api.entities.TextChannel;
 
 import java.awt.*;
-import java.util.concurrent.TimeUnit;
 /**
  * Command: >checktimezone GMT+2
  * Aliases: "ctz", "checktz", "checktimezone"
@@ -23,14 +22,13 @@ public class CheckTimeZoneCommand {
         this.clientCache = clientCache;
     }
 
-    public void runCheckTimezoneCommand(Message message) {
-        TextChannel textChannel = message.getTextChannel();
-        String[] args = message.getContentRaw().split(" ");
-        String guildID = message.getGuild().getId();
+    public void runCheckTimezoneCommand(CommandContext context) {
+        String[] args = context.getArgs();
+        String guildID = context.getGuild().getId();
         String language = clientCache.getLanguage(guildID);
 
         if (!areArgumentsValid(args)) {
-            textChannel.sendMessageEmbeds(buildInvalidCommandEmbed(language)).queue();
+            context.replyEmbeds(buildInvalidCommandEmbed(language));
             return;
         }
 
@@ -38,32 +36,32 @@ public class CheckTimeZoneCommand {
         String time = Time.getTimeWithWeekday(timeZone);
 
         if (!isTimeZoneValid(time)) {
-            textChannel.sendMessageEmbeds(buildUnknownTimezoneEmbed(language)).queue();
+            context.replyEmbeds(buildUnknownTimezoneEmbed(language));
             return;
         }
 
-        textChannel.sendMessageEmbeds(buildCheckTimezoneReturnEmbed(timeZone, time)).queue();
+        context.replyEmbeds(buildCheckTimezoneReturnEmbed(timeZone, time));
     }
 
     private MessageEmbed buildInvalidCommandEmbed(String language) {
         EmbedBuilder embedBuilder = new EmbedBuilder();
         embedBuilder.setColor(Color.RED);
-        embedBuilder.setTitle(LanguageController.getInvalidCommandMessage(language));
+        embedBuilder.setTitle(MessageCatalog.get(MessageKey.INVALID_COMMAND, language));
         return embedBuilder.build();
     }
 
     private boolean areArgumentsValid(String[] args) {
-        return args.length == 1;
+        return args.length == 2;
     }
 
     private boolean isTimeZoneValid(String time) {
-        return time.equalsIgnoreCase("INVALID_TIMEZONE");
+        return !time.equalsIgnoreCase("INVALID_TIMEZONE");
     }
 
     private MessageEmbed buildUnknownTimezoneEmbed(String language) {
         EmbedBuilder embedBuilder = new EmbedBuilder();
         embedBuilder.setColor(Color.RED);
-        embedBuilder.setTitle(LanguageController.getUnknownTimezoneMessage(language));
+        embedBuilder.setTitle(MessageCatalog.get(MessageKey.UNKNOWN_TIMEZONE, language));
         return embedBuilder.build();
     }
 
@@ -1,10 +1,9 @@
 package me.umbreon.diabloimmortalbot.commands.help_commands;
 
+import me.umbreon.diabloimmortalbot.commands.CommandContext;
 import me.umbreon.diabloimmortalbot.utils.ImageAssistant;
 import net.dv8tion.jda.api.EmbedBuilder;
-import net.dv8tion.jda.api.entities.Message;
 import net.dv8tion.jda.api.entities.MessageEmbed;
-import net.dv8tion.jda.api.entities.TextChannel;
 
 import java.awt.*;
 /**
@@ -12,9 +11,8 @@ import java.awt.*;
  */
 public class HelpCommand {
 
-    public void runHelpCommand(Message message) {
-        TextChannel textChannel = message.getTextChannel();
-        textChannel.sendMessageEmbeds(buildHelpMessage()).queue();
+    public void runHelpCommand(CommandContext context) {
+        context.replyEmbeds(buildHelpMessage());
     }
 
     private MessageEmbed buildHelpMessage() {
@@ -27,6 +25,8 @@ public class HelpCommand {
         embedBuilder.addField(">timezone [Timezone]", "Sets your timezone.", false);
         embedBuilder.addField(">timezones", "Message with GMT times to see what timezone would fit you.", false);
         embedBuilder.addField(">status [STATUS]", "Select what messages you like to get.", false);
+        embedBuilder.addField(">subscribe [EVENT...]", "Adds events to this channel, e.g. DEMON_GATES, BATTLEGROUND_HEADUP or ALL.", false);
+        embedBuilder.addField(">unsubscribe [EVENT...]", "Removes events from this channel. >status resets the channel to a preset.", false);
         embedBuilder.addField(">role [Role]", "Set what role should be mentioned in this textchannel. If you dont set the role everyone will be mentioned.", false);
         embedBuilder.addField(">language [Language]", "Sets bot language for this server.", false);
         embedBuilder.addField(">headup on/off", "Enable or disable 15 minutes prewarning message.", false);
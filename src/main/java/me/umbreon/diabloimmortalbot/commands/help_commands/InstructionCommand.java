@@ -1,10 +1,9 @@
 package me.umbreon.diabloimmortalbot.commands.help_commands;
 
+import me.umbreon.diabloimmortalbot.commands.CommandContext;
 import me.umbreon.diabloimmortalbot.utils.ImageAssistant;
 import net.dv8tion.jda.api.EmbedBuilder;
-import net.dv8tion.jda.api.entities.Message;
 import net.dv8tion.jda.api.entities.MessageEmbed;
-import net.dv8tion.jda.api.entities.TextChannel;
 
 import java.awt.*;
 /**
@@ -14,9 +13,8 @@ import java.awt.*;
  */
 public class InstructionCommand {
 
-    public void runInstructionCommand(Message message) {
-        TextChannel textChannel = message.getTextChannel();
-        textChannel.sendMessageEmbeds(buildHelpMessage()).queue();
+    public void runInstructionCommand(CommandContext context) {
+        context.replyEmbeds(buildHelpMessage());
     }
 
     private MessageEmbed buildHelpMessage() {
@@ -1,20 +1,18 @@
 package me.umbreon.diabloimmortalbot.commands.help_commands;
 
+import me.umbreon.diabloimmortalbot.commands.CommandContext;
 import me.umbreon.diabloimmortalbot.utils.Time;
 import net.dv8tion.jda.api.EmbedBuilder;
-import net.dv8tion.jda.api.entities.Message;
-import net.dv8tion.jda.api.entities.TextChannel;
 
 import java.awt.*;
 
 public class TimezonesCommand {
 
-    public void runTimezonesCommand(Message message) {
-        TextChannel textChannel = message.getTextChannel();
+    public void runTimezonesCommand(CommandContext context) {
         EmbedBuilder embedBuilder = new EmbedBuilder();
         embedBuilder.setTitle("Timezones");
         embedBuilder.setColor(Color.RED);
-        String[] args = message.getContentRaw().split(" ");
+        String[] args = context.getArgs();
 
         String timezone;
         if (args.length == 1) {
@@ -36,13 +34,13 @@ public class TimezonesCommand {
             String time = Time.getTimeWithWeekday(timezoneMessage);
 
             if (time.equalsIgnoreCase("INVALID_TIMEZONE")) {
-                textChannel.sendMessage("Unknown Timezone. Known timezones are UTC, GMT & ET.").queue();
+                context.reply("Unknown Timezone. Known timezones are UTC, GMT & ET.");
                 return;
             }
 
             embedBuilder.addField(timezoneMessage, time, true);
         }
         embedBuilder.setFooter("These times are in 24HRS format!");
-        textChannel.sendMessageEmbeds(embedBuilder.build()).queue();
+        context.replyEmbeds(embedBuilder.build());
     }
 }
@@ -1,7 +1,7 @@
 package me.umbreon.diabloimmortalbot.commands.help_commands;
 
+import me.umbreon.diabloimmortalbot.commands.CommandContext;
 import net.dv8tion.jda.api.EmbedBuilder;
-import net.dv8tion.jda.api.entities.Message;
 import net.dv8tion.jda.api.entities.MessageEmbed;
 import net.dv8tion.jda.api.entities.TextChannel;
 
@@ -13,10 +13,10 @@ import java.awt.*;
  */
 public class WhatsMyChannelIdCommand {
 
-    public void runWhatsMyChannelIdCommand(Message message) {
-        TextChannel textChannel = message.getTextChannel();
+    public void runWhatsMyChannelIdCommand(CommandContext context) {
+        TextChannel textChannel = context.getTextChannel();
         String channelID = textChannel.getId();
-        textChannel.sendMessageEmbeds(buildChannelIdEmbed(channelID)).queue();
+        context.replyEmbeds(buildChannelIdEmbed(channelID));
     }
 
     private MessageEmbed buildChannelIdEmbed(String channelID) {
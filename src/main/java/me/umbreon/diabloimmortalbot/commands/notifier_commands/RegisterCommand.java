@@ -1,12 +1,13 @@
 package me.umbreon.diabloimmortalbot.commands.notifier_commands;
 
-import me.umbreon.diabloimmortalbot.languages.LanguageController;
+import me.umbreon.diabloimmortalbot.commands.CommandContext;
+import me.umbreon.diabloimmortalbot.languages.MessageCatalog;
+import me.umbreon.diabloimmortalbot.languages.MessageKey;
 import me.umbreon.diabloimmortalbot.data.NotificationChannel;
 import me.umbreon.diabloimmortalbot.database.DatabaseRequests;
 import me.umbreon.diabloimmortalbot.utils.ClientCache;
 import net.dv8tion.jda.api.entities.*;
 
-import java.util.concurrent.TimeUnit;
 /**
  * Command: >register (TextChannelMention)
  * Alias: >notifier (TextChannelMention)
@@ -23,24 +24,24 @@ public class RegisterCommand {
         this.databaseRequests = databaseRequests;
     }
 
-    public void runRegisterCommand(Message message) {
-        String[] args = message.getContentRaw().split(" ");
-        Guild guild = message.getGuild();
+    public void runRegisterCommand(CommandContext context) {
+        String[] args = context.getArgs();
+        Guild guild = context.getGuild();
         //String channelID = args[1].replaceAll("[^\\d.]", ""); //Replaces non numbers with empty space
-        String channelID = message.getTextChannel().getId();
+        String channelID = context.getTextChannel().getId();
         TextChannel targetTextChannel;
         if (args.length == 2) {
             targetTextChannel = guild.getTextChannelById(args[1]);
 
         }
 
-        TextChannel textChannel = message.getTextChannel();
-        String guildID = message.getGuild().getId();
+        TextChannel textChannel = context.getTextChannel();
+        String guildID = context.getGuild().getId();
         String language = clientCache.getLanguage(guildID);
 
         if (clientCache.doNotificationChannelExists(channelID)) {
-            String responseMessage = textChannel.getAsMention() + LanguageController.getAlreadyRegisteredMessage(language);
-            textChannel.sendMessage(responseMessage).queue(sendMessage -> sendMessage.delete().queueAfter(10, TimeUnit.SECONDS));
+            String responseMessage = textChannel.getAsMention() + MessageCatalog.get(MessageKey.ALREADY_REGISTERED, language);
+            context.replyTemporarily(responseMessage);
             return;
         }
 
@@ -48,8 +49,8 @@ public class RegisterCommand {
         databaseRequests.createNewNotificationChannelEntry(notificationChannel);
         clientCache.addNotificationChannel(notificationChannel);
 
-        String responseMessage = String.format(LanguageController.getRegisteredMessage(language), textChannel.getAsMention());
-        textChannel.sendMessage(responseMessage).queue(sendMessage -> sendMessage.delete().queueAfter(10, TimeUnit.SECONDS));
+        String responseMessage = String.format(MessageCatalog.get(MessageKey.REGISTERED, language), textChannel.getAsMention());
+        context.replyTemporarily(responseMessage);
     }
 
 }
@@ -1,15 +1,14 @@
 package me.umbreon.diabloimmortalbot.commands.notifier_commands;
 
-import me.umbreon.diabloimmortalbot.languages.LanguageController;
+import me.umbreon.diabloimmortalbot.commands.CommandContext;
+import me.umbreon.diabloimmortalbot.languages.MessageCatalog;
+import me.umbreon.diabloimmortalbot.languages.MessageKey;
 import me.umbreon.diabloimmortalbot.database.DatabaseRequests;
 import me.umbreon.diabloimmortalbot.utils.ClientCache;
 import net.dv8tion.jda.api.entities.Guild;
-import net.dv8tion.jda.api.entities.Message;
 import net.dv8tion.jda.api.entities.Role;
 import net.dv8tion.jda.api.entities.TextChannel;
 
-import java.util.concurrent.TimeUnit;
-
 public class RoleCommand {
 
     private final DatabaseRequests databaseRequests;
@@ -20,54 +19,54 @@ public class RoleCommand {
         this.clientCache = clientCache;
     }
 
-    public void runRoleCommand(Message message) {
-        TextChannel textChannel = message.getTextChannel();
+    public void runRoleCommand(CommandContext context) {
+        TextChannel textChannel = context.getTextChannel();
         String channelID = textChannel.getId();
 
-        String[] args = message.getContentRaw().split(" ");
+        String[] args = context.getArgs();
         if (args.length == 1) {
-            String responseMessage = "Invalid command. Use >help";
-            message.getTextChannel().sendMessage(responseMessage).queue(sendMessage -> sendMessage.delete().queueAfter(10, TimeUnit.SECONDS));
+            String responseMessage = "Invalid command. Use " + context.getCommandPrefix() + "help";
+            context.replyTemporarily(responseMessage);
             return;
         }
 
-        String guildID = message.getGuild().getId();
+        String guildID = context.getGuild().getId();
         String language = clientCache.getLanguage(guildID);
         if (!clientCache.doNotificationChannelExists(channelID)) {
-            String responseMessage = String.format(LanguageController.getNotRegisteredMessage(language), textChannel.getAsMention());
-            textChannel.sendMessage(responseMessage).queue(sendMessage -> sendMessage.delete().queueAfter(10, TimeUnit.SECONDS));
+            String responseMessage = String.format(MessageCatalog.get(MessageKey.NOT_REGISTERED, language), textChannel.getAsMention());
+            context.replyTemporarily(responseMessage);
             return;
         }
 
         String roleID = args[1].replaceAll("[^\\d.]", ""); //Replaces non numbers with empty space
-        Guild guild = message.getGuild();
+        Guild guild = context.getGuild();
         if (args[1].equalsIgnoreCase("@here")) {
-            setRoleToHere(message, language);
+            setRoleToHere(context, language);
             return;
         }
 
         Role role = getRoleByRoleID(roleID, guild);
         if (role == null) {
-            String responseMessage = LanguageController.getRoleNotFoundMessage(language);
-            textChannel.sendMessage(responseMessage).queue(sendMessage -> sendMessage.delete().queueAfter(10, TimeUnit.SECONDS));
+            String responseMessage = MessageCatalog.get(MessageKey.ROLE_NOT_FOUND, language);
+            context.replyTemporarily(responseMessage);
             return;
         }
 
         clientCache.setRole(channelID, roleID);
         databaseRequests.setRole(channelID, roleID);
-        String response = String.format(LanguageController.getIsSetMessage(language), role.getAsMention());
-        textChannel.sendMessage(response).queue(sendMessage -> sendMessage.delete().queueAfter(10, TimeUnit.SECONDS));
+        String response = String.format(MessageCatalog.get(MessageKey.IS_SET, language), role.getAsMention());
+        context.replyTemporarily(response);
     }
 
-    private void setRoleToHere(Message message, String language) {
-        TextChannel textChannel = message.getTextChannel();
+    private void setRoleToHere(CommandContext context, String language) {
+        TextChannel textChannel = context.getTextChannel();
         String channelID = textChannel.getId();
         String role = "@here";
 
         clientCache.setRole(channelID, role);
         databaseRequests.setRole(channelID, role);
-        String responseMessage = String.format(LanguageController.getIsSetMessage(language), "Here");
-        message.getTextChannel().sendMessage(responseMessage).queue(sendMessage -> sendMessage.delete().queueAfter(10, TimeUnit.SECONDS));
+        String responseMessage = String.format(MessageCatalog.get(MessageKey.IS_SET, language), "Here");
+        context.replyTemporarily(responseMessage);
     }
 
     private Role getRoleByRoleID(String roleID, Guild guild) {
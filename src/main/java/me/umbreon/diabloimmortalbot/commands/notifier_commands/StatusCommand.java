@@ -1,13 +1,13 @@
 package me.umbreon.diabloimmortalbot.commands.notifier_commands;
 
-import me.umbreon.diabloimmortalbot.languages.LanguageController;
+import me.umbreon.diabloimmortalbot.commands.CommandContext;
+import me.umbreon.diabloimmortalbot.data.NotificationChannel;
+import me.umbreon.diabloimmortalbot.languages.MessageCatalog;
+import me.umbreon.diabloimmortalbot.languages.MessageKey;
 import me.umbreon.diabloimmortalbot.database.DatabaseRequests;
 import me.umbreon.diabloimmortalbot.utils.ClientCache;
-import net.dv8tion.jda.api.entities.Message;
 import net.dv8tion.jda.api.entities.TextChannel;
 
-import java.util.concurrent.TimeUnit;
-
 public class StatusCommand {
 
     private final DatabaseRequests databaseRequests;
@@ -18,77 +18,79 @@ public class StatusCommand {
         this.clientCache = clientCache;
     }
 
-    public void runStatusCommand(Message message) {
-        String guildID = message.getGuild().getId();
-        TextChannel textChannel = message.getTextChannel();
+    public void runStatusCommand(CommandContext context) {
+        String guildID = context.getGuild().getId();
+        TextChannel textChannel = context.getTextChannel();
         String channelID = textChannel.getId();
 
-        String[] args = message.getContentRaw().split(" ");
+        String[] args = context.getArgs();
 
         if (args.length == 1) {
-            String responseMessage = "Invalid command. Use >help";
-            message.getTextChannel().sendMessage(responseMessage).queue(sendMessage -> sendMessage.delete().queueAfter(10, TimeUnit.SECONDS));
-            createLogEntry(message, responseMessage);
+            String responseMessage = "Invalid command. Use " + context.getCommandPrefix() + "help";
+            context.replyTemporarily(responseMessage);
+            createLogEntry(context, responseMessage);
             return;
         }
 
         String language = clientCache.getLanguage(guildID);
 
         if (!clientCache.doNotificationChannelExists(channelID)) {
-            String responseMessage = String.format(LanguageController.getNotRegisteredMessage(language), textChannel.getAsMention());
-            textChannel.sendMessage(responseMessage).queue(sendMessage -> sendMessage.delete().queueAfter(10, TimeUnit.SECONDS));
-            createLogEntry(message, responseMessage);
+            String responseMessage = String.format(MessageCatalog.get(MessageKey.NOT_REGISTERED, language), textChannel.getAsMention());
+            context.replyTemporarily(responseMessage);
+            createLogEntry(context, responseMessage);
             return;
         }
 
         switch (args[1].toLowerCase()) {
             case "0":
-                updateStatusFromNotificationChannel(channelID, 0, message, LanguageController.getReceiveAllMessagesMessage(language));
+                updateStatusFromNotificationChannel(channelID, 0, context, MessageCatalog.get(MessageKey.RECEIVE_ALL_MESSAGES, language));
                 break;
             case "1":
-                updateStatusFromNotificationChannel(channelID, 1, message, LanguageController.getReceiveOverworldMessage(language));
+                updateStatusFromNotificationChannel(channelID, 1, context, MessageCatalog.get(MessageKey.RECEIVE_OVERWORLD_MESSAGES, language));
                 break;
             case "2":
-                updateStatusFromNotificationChannel(channelID, 2, message, LanguageController.getReceiveImmortalMessage(language));
+                updateStatusFromNotificationChannel(channelID, 2, context, MessageCatalog.get(MessageKey.RECEIVE_IMMORTAL_MESSAGES, language));
                 break;
             case "3":
-                updateStatusFromNotificationChannel(channelID, 3, message, LanguageController.getReceiveShadowMessage(language));
+                updateStatusFromNotificationChannel(channelID, 3, context, MessageCatalog.get(MessageKey.RECEIVE_SHADOW_MESSAGES, language));
                 break;
             case "4":
-                updateStatusFromNotificationChannel(channelID, 4, message, LanguageController.getReceiveOwImmortalMessage(language));
+                updateStatusFromNotificationChannel(channelID, 4, context, MessageCatalog.get(MessageKey.RECEIVE_OV_AND_IMMORTAL_MESSAGES, language));
                 break;
             case "5":
-                updateStatusFromNotificationChannel(channelID, 5, message, LanguageController.getReceiveOwShadowMessage(language));
+                updateStatusFromNotificationChannel(channelID, 5, context, MessageCatalog.get(MessageKey.RECEIVE_OV_AND_SHADOW_MESSAGES, language));
                 break;
             case "7":
-                updateStatusFromNotificationChannel(channelID, 7, message, LanguageController.getReceiveOwImmortalMessage(language));
+                updateStatusFromNotificationChannel(channelID, 7, context, MessageCatalog.get(MessageKey.RECEIVE_OV_AND_IMMORTAL_MESSAGES, language));
                 break;
             case "8":
-                updateStatusFromNotificationChannel(channelID, 8, message, LanguageController.getReceiveOwShadowMessage(language));
+                updateStatusFromNotificationChannel(channelID, 8, context, MessageCatalog.get(MessageKey.RECEIVE_OV_AND_SHADOW_MESSAGES, language));
                 break;
             case "9":
-                updateStatusFromNotificationChannel(channelID, 9, message, LanguageController.getReceiveOverworldMessage(language));
+                updateStatusFromNotificationChannel(channelID, 9, context, MessageCatalog.get(MessageKey.RECEIVE_OVERWORLD_MESSAGES, language));
                 break;
             case "128":
-                updateStatusFromNotificationChannel(channelID, 128, message, "This is debug mode.");
+                updateStatusFromNotificationChannel(channelID, 128, context, "This is debug mode.");
                 break;
             default:
-                message.getTextChannel().sendMessage(LanguageController.getUnknownStatusMessage(language)).queue();
+                context.reply(MessageCatalog.get(MessageKey.UNKNOWN_STATUS, language));
         }
     }
 
-    private void updateStatusFromNotificationChannel(String channelID, int status, Message message, String returnMessage) {
-        TextChannel textChannel = message.getTextChannel();
+    private void updateStatusFromNotificationChannel(String channelID, int status, CommandContext context, String returnMessage) {
         databaseRequests.setStatus(channelID, status);
         clientCache.setStatus(channelID, status);
-        String responseMessage = String.format(returnMessage, message.getTextChannel().getAsMention());
-        textChannel.sendMessage(responseMessage).queue(sendMessage -> sendMessage.delete().queueAfter(10, TimeUnit.SECONDS));
-        createLogEntry(message, responseMessage);
+        // Drops subscriptions picked with >subscribe, the channel follows the status again.
+        databaseRequests.setSubscriptions(channelID, NotificationChannel.SUBSCRIPTIONS_FROM_STATUS);
+        clientCache.setSubscriptions(channelID, NotificationChannel.SUBSCRIPTIONS_FROM_STATUS);
+        String responseMessage = String.format(returnMessage, context.getTextChannel().getAsMention());
+        context.replyTemporarily(responseMessage);
+        createLogEntry(context, responseMessage);
     }
 
-    private void createLogEntry(Message message, String responseMessage) {
-        String channelName = message.getTextChannel().getName();
-        String guildName = message.getGuild().getName();
+    private void createLogEntry(CommandContext context, String responseMessage) {
+        String channelName = context.getTextChannel().getName();
+        String guildName = context.getGuild().getName();
         String logMessage = "Sended message " + responseMessage + " to " + channelName + " in guild " + guildName + ".";
     }
 }
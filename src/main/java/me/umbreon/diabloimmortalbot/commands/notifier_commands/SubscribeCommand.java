@@ -0,0 +1,123 @@
+package me.umbreon.diabloimmortalbot.commands.notifier_commands;
+
+import me.umbreon.diabloimmortalbot.commands.CommandContext;
+import me.umbreon.diabloimmortalbot.database.DatabaseRequests;
+import me.umbreon.diabloimmortalbot.gameevents.EventTimeline;
+import me.umbreon.diabloimmortalbot.gameevents.GameEvent;
+import me.umbreon.diabloimmortalbot.gameevents.GameEventRegistry;
+import me.umbreon.diabloimmortalbot.languages.MessageCatalog;
+import me.umbreon.diabloimmortalbot.languages.MessageKey;
+import me.umbreon.diabloimmortalbot.utils.ClientCache;
+import net.dv8tion.jda.api.entities.TextChannel;
+
+import java.util.StringJoiner;
+
+/**
+ * Command: >subscribe EVENT... and >unsubscribe EVENT...
+ * EVENT is the name of an event from gameevents.yaml for the event and its head up, EVENT_HEADUP for the head up
+ * only or ALL for every event.
+ */
+public class SubscribeCommand {
+
+    private static final String HEAD_UP_SUFFIX = "_HEADUP";
+
+    private final DatabaseRequests databaseRequests;
+    private final ClientCache clientCache;
+    private final GameEventRegistry gameEventRegistry;
+
+    public SubscribeCommand(DatabaseRequests databaseRequests, ClientCache clientCache, GameEventRegistry gameEventRegistry) {
+        this.databaseRequests = databaseRequests;
+        this.clientCache = clientCache;
+        this.gameEventRegistry = gameEventRegistry;
+    }
+
+    public void runSubscribeCommand(CommandContext context, boolean subscribe) {
+        TextChannel textChannel = context.getTextChannel();
+        String channelID = textChannel.getId();
+
+        String[] args = context.getArgs();
+        if (args.length == 1) {
+            String responseMessage = "Invalid command. Use " + context.getCommandPrefix() + "help";
+            context.replyTemporarily(responseMessage);
+            return;
+        }
+
+        String language = clientCache.getLanguage(context.getGuild().getId());
+        if (!clientCache.doNotificationChannelExists(channelID)) {
+            String responseMessage = String.format(MessageCatalog.get(MessageKey.NOT_REGISTERED, language), textChannel.getAsMention());
+            context.replyTemporarily(responseMessage);
+            return;
+        }
+
+        long bits = 0;
+        for (int i = 1; i < args.length; i++) {
+            if (args[i].isBlank()) continue;
+
+            long eventBits = parseEventBits(args[i]);
+            if (eventBits == 0) {
+                String responseMessage = String.format(MessageCatalog.get(MessageKey.UNKNOWN_EVENT, language), args[i], getEventNames());
+                context.replyTemporarily(responseMessage);
+                return;
+            }
+            bits |= eventBits;
+        }
+
+        long subscriptions = gameEventRegistry.resolveSubscriptions(clientCache.getStatus(channelID), clientCache.getSubscriptions(channelID));
+        subscriptions = subscribe ? subscriptions | bits : subscriptions & ~bits;
+
+        clientCache.setSubscriptions(channelID, subscriptions);
+        databaseRequests.setSubscriptions(channelID, subscriptions);
+
+        String responseMessage = String.format(MessageCatalog.get(MessageKey.SUBSCRIPTIONS_UPDATED, language),
+                textChannel.getAsMention(), describe(subscriptions));
+        context.replyTemporarily(responseMessage);
+    }
+
+    /**
+     * @return the bits of the event name or 0 if it is unknown.
+     */
+    private long parseEventBits(String name) {
+        if (name.equalsIgnoreCase("ALL")) {
+            long bits = 0;
+            for (GameEvent gameEvent : gameEventRegistry.getGameEvents()) {
+                bits |= EventTimeline.withHeadUps(EventTimeline.eventBit(gameEvent.getId()));
+            }
+            return bits;
+        }
+
+        GameEvent gameEvent = gameEventRegistry.getGameEvent(name);
+        if (gameEvent != null) {
+            return EventTimeline.withHeadUps(EventTimeline.eventBit(gameEvent.getId()));
+        }
+
+        String upperCaseName = name.toUpperCase();
+        if (upperCaseName.endsWith(HEAD_UP_SUFFIX)) {
+            gameEvent = gameEventRegistry.getGameEvent(upperCaseName.substring(0, upperCaseName.length() - HEAD_UP_SUFFIX.length()));
+            if (gameEvent != null && !gameEvent.hasEmbed()) {
+                return EventTimeline.headUpBit(gameEvent.getId());
+            }
+        }
+        return 0;
+    }
+
+    private String describe(long subscriptions) {
+        StringJoiner names = new StringJoiner(", ");
+        for (GameEvent gameEvent : gameEventRegistry.getGameEvents()) {
+            if (EventTimeline.isEventTime(subscriptions, gameEvent.getId())) {
+                names.add(gameEvent.getName());
+            }
+            if (EventTimeline.isHeadUpTime(subscriptions, gameEvent.getId()) && !gameEvent.hasEmbed()) {
+                names.add(gameEvent.getName() + HEAD_UP_SUFFIX);
+            }
+        }
+        return names.length() == 0 ? "-" : names.toString();
+    }
+
+    private String getEventNames() {
+        StringJoiner names = new StringJoiner(", ");
+        for (GameEvent gameEvent : gameEventRegistry.getGameEvents()) {
+            names.add(gameEvent.getName());
+        }
+        return names.toString();
+    }
+}
@@ -1,16 +1,16 @@
 package me.umbreon.diabloimmortalbot.commands.notifier_commands;
 
-import me.umbreon.diabloimmortalbot.languages.LanguageController;
+import me.umbreon.diabloimmortalbot.commands.CommandContext;
+import me.umbreon.diabloimmortalbot.languages.MessageCatalog;
+import me.umbreon.diabloimmortalbot.languages.MessageKey;
 import me.umbreon.diabloimmortalbot.database.DatabaseRequests;
 import me.umbreon.diabloimmortalbot.utils.ClientCache;
-import net.dv8tion.jda.api.entities.Message;
 import net.dv8tion.jda.api.entities.TextChannel;
 
 import java.time.Instant;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
 import java.time.zone.ZoneRulesException;
-import java.util.concurrent.TimeUnit;
 
 /**
  * Command: /timezone GMT+2
@@ -25,23 +25,23 @@ public class TimezoneCommand {
         this.clientCache = clientCache;
     }
 
-    public void onTimezoneCommand(Message message) {
-        TextChannel textChannel = message.getTextChannel();
-        String[] args = message.getContentRaw().split(" ");
+    public void onTimezoneCommand(CommandContext context) {
+        TextChannel textChannel = context.getTextChannel();
+        String[] args = context.getArgs();
 
         if (args.length == 1) {
-            String responseMessage = "Invalid command. Use >help";
-            textChannel.sendMessage(responseMessage).queue(sendMessage -> sendMessage.delete().queueAfter(10, TimeUnit.SECONDS));
+            String responseMessage = "Invalid command. Use " + context.getCommandPrefix() + "help";
+            context.replyTemporarily(responseMessage);
             return;
         }
 
         String channelID = textChannel.getId();
-        String guildID = message.getGuild().getId();
+        String guildID = context.getGuild().getId();
         String language = clientCache.getLanguage(guildID);
 
         if (!clientCache.doNotificationChannelExists(channelID)) {
-            String responseMessage = String.format(LanguageController.getNotRegisteredMessage(language), textChannel.getAsMention());
-            textChannel.sendMessage(responseMessage).queue(sendMessage -> sendMessage.delete().queueAfter(10, TimeUnit.SECONDS));
+            String responseMessage = String.format(MessageCatalog.get(MessageKey.NOT_REGISTERED, language), textChannel.getAsMention());
+            context.replyTemporarily(responseMessage);
             return;
         }
 
@@ -52,14 +52,14 @@ public class TimezoneCommand {
             ZonedDateTime dateTime = timeStamp.atZone(ZoneId.of(timezone));
         } catch (ZoneRulesException e) {
             String responseMessage = "Invalid timezone.";
-            message.getTextChannel().sendMessage(responseMessage).queue(sendMessage -> sendMessage.delete().queueAfter(10, TimeUnit.SECONDS));
+            context.replyTemporarily(responseMessage);
             return;
         }
 
         databaseRequests.setTimezone(channelID, timezone);
         clientCache.setTimezone(channelID, timezone);
-        String responseMessage = String.format(LanguageController.getTimezoneSetToMessage(language), textChannel.getAsMention(), timezone);
-        textChannel.sendMessage(responseMessage).queue(sendMessage -> sendMessage.delete().queueAfter(10, TimeUnit.SECONDS));
+        String responseMessage = String.format(MessageCatalog.get(MessageKey.TIMEZONE_SET, language), textChannel.getAsMention(), timezone);
+        context.replyTemporarily(responseMessage);
     }
 }
 
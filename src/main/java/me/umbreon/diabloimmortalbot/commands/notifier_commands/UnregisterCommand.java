@@ -1,13 +1,12 @@
 package me.umbreon.diabloimmortalbot.commands.notifier_commands;
 
-import me.umbreon.diabloimmortalbot.languages.LanguageController;
+import me.umbreon.diabloimmortalbot.commands.CommandContext;
+import me.umbreon.diabloimmortalbot.languages.MessageCatalog;
+import me.umbreon.diabloimmortalbot.languages.MessageKey;
 import me.umbreon.diabloimmortalbot.database.DatabaseRequests;
 import me.umbreon.diabloimmortalbot.utils.ClientCache;
-import net.dv8tion.jda.api.entities.Message;
 import net.dv8tion.jda.api.entities.TextChannel;
 
-import java.util.concurrent.TimeUnit;
-
 public class UnregisterCommand {
 
     private final DatabaseRequests databaseRequests;
@@ -18,22 +17,22 @@ public class UnregisterCommand {
         this.databaseRequests = databaseRequests;
     }
 
-    public void runUnregisterCommand(Message message) {
-        TextChannel textChannel = message.getTextChannel();
+    public void runUnregisterCommand(CommandContext context) {
+        TextChannel textChannel = context.getTextChannel();
         String channelID = textChannel.getId();
-        String guildID = message.getGuild().getId();
+        String guildID = context.getGuild().getId();
         String language = clientCache.getLanguage(guildID);
 
         if (!clientCache.doNotificationChannelExists(channelID)) {
-            String responseMessage = String.format(LanguageController.getNotRegisteredMessage(language), textChannel.getAsMention());
-            textChannel.sendMessage(responseMessage).queue(sendMessage -> sendMessage.delete().queueAfter(10, TimeUnit.SECONDS));
+            String responseMessage = String.format(MessageCatalog.get(MessageKey.NOT_REGISTERED, language), textChannel.getAsMention());
+            context.replyTemporarily(responseMessage);
             return;
         }
 
         removeNotificationChannel(channelID);
 
-        String responseMessage = String.format(LanguageController.getUnregisteredChannel(language), textChannel.getAsMention());
-        textChannel.sendMessage(responseMessage).queue(sendMessage -> sendMessage.delete().queueAfter(10, TimeUnit.SECONDS));
+        String responseMessage = String.format(MessageCatalog.get(MessageKey.UNREGISTERED, language), textChannel.getAsMention());
+        context.replyTemporarily(responseMessage);
     }
 
     private void removeNotificationChannel(String channelID) {
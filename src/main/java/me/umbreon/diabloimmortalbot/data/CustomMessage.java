@@ -73,6 +73,10 @@ public class CustomMessage {
         return customMessageID;
     }
 
+    public void setCustomMessageID(int customMessageID) {
+        this.customMessageID = customMessageID;
+    }
+
     public boolean isRepeat() {
         return repeat;
     }
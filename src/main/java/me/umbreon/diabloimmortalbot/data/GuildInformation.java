@@ -1,9 +1,13 @@
 package me.umbreon.diabloimmortalbot.data;
 
+import me.umbreon.diabloimmortalbot.languages.Language;
+
 public class GuildInformation {
 
     private String guildID;
     private String language;
+    // The language resolved for the message catalog, English if the stored one is not supported.
+    private Language messageLanguage;
     private boolean isHeadUpEnabled;
     private boolean battlegroundsNotificationsEnabled;
     private boolean eventMessageEnabled;
@@ -11,6 +15,7 @@ public class GuildInformation {
     public GuildInformation(String guildID, String language, boolean isHeadUpEnabled, boolean battlegroundsNotificationsEnabled, boolean eventMessageEnabled) {
         this.guildID = guildID;
         this.language = language;
+        this.messageLanguage = Language.fromCode(language);
         this.isHeadUpEnabled = isHeadUpEnabled;
         this.battlegroundsNotificationsEnabled = battlegroundsNotificationsEnabled;
         this.eventMessageEnabled = eventMessageEnabled;
@@ -30,6 +35,11 @@ public class GuildInformation {
 
     public void setLanguage(String language) {
         this.language = language;
+        this.messageLanguage = Language.fromCode(language);
+    }
+
+    public Language getMessageLanguage() {
+        return messageLanguage;
     }
 
     public boolean isHeadUpEnabled() {
@@ -2,18 +2,26 @@ package me.umbreon.diabloimmortalbot.data;
 
 public class NotificationChannel {
 
+    /**
+     * The channel receives the events of its status preset from gameevents.yaml.
+     */
+    public static final long SUBSCRIPTIONS_FROM_STATUS = -1;
+
     public String channelId;
     public String timezone;
     public int status;
     public String role;
     public boolean inDebugMode;
+    // Event and head up bits as in the EventTimeline.
+    public long subscriptions;
 
-    public NotificationChannel(String channelId, String timezone, int status, String role, boolean inDebugMode) {
+    public NotificationChannel(String channelId, String timezone, int status, String role, boolean inDebugMode, long subscriptions) {
         this.channelId = channelId;
         this.timezone = timezone;
         this.status = status;
         this.role = role;
         this.inDebugMode = inDebugMode;
+        this.subscriptions = subscriptions;
     }
 
     public NotificationChannel(String channelId) {
@@ -22,6 +30,7 @@ public class NotificationChannel {
         this.status = 0;
         this.role = null;
         this.inDebugMode = false;
+        this.subscriptions = SUBSCRIPTIONS_FROM_STATUS;
     }
 
     public String getTimezone() {
@@ -40,6 +49,10 @@ public class NotificationChannel {
         return inDebugMode;
     }
 
+    public long getSubscriptions() {
+        return subscriptions;
+    }
+
     public void setTimezone(String timezone) {
         this.timezone = timezone;
     }
@@ -55,4 +68,8 @@ public class NotificationChannel {
     public void setInDebugMode(boolean inDebugMode) {
         this.inDebugMode = inDebugMode;
     }
+
+    public void setSubscriptions(long subscriptions) {
+        this.subscriptions = subscriptions;
+    }
 }
@@ -0,0 +1,222 @@
+package me.umbreon.diabloimmortalbot.database;
+
+import me.umbreon.diabloimmortalbot.data.CustomMessage;
+import me.umbreon.diabloimmortalbot.data.GuildInformation;
+import me.umbreon.diabloimmortalbot.data.NotificationChannel;
+import me.umbreon.diabloimmortalbot.utils.ClientCache;
+import me.umbreon.diabloimmortalbot.utils.ClientConfig;
+import me.umbreon.diabloimmortalbot.utils.ClientLogger;
+
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Keeps the {@link ClientCache} in sync with changes other instances (or anyone else) made to the database. Polls
+ * the rows whose updated_at changed since the last poll and the deleted_rows change log, and applies them to the
+ * cache. Rows with local writes which are not flushed yet are skipped, the local state is newer. Rows which match the
+ * cache, like the ones this instance wrote itself, are skipped as well, so they do not notify the listeners again.
+ */
+public class CacheSynchronizer {
+
+    private static final long TOMBSTONE_RETENTION_MILLIS = TimeUnit.DAYS.toMillis(1);
+    private static final long TOMBSTONE_CLEANUP_INTERVAL_MILLIS = TimeUnit.HOURS.toMillis(1);
+
+    private final DatabaseRequests databaseRequests;
+    private final ClientCache clientCache;
+    private final WriteBehindQueue writeBehindQueue;
+    private final long intervalMillis;
+    private final long overlapMillis;
+    private final ScheduledExecutorService syncExecutor;
+
+    private Timestamp lastSync;
+    private long lastTombstoneCleanup;
+    private int failedSyncs;
+
+    /**
+     * Has to be created before the caches are loaded, changes made during the load are picked up by the first sync.
+     *
+     * @param writeBehindQueue the queue of this instance or null if it writes synchronously.
+     */
+    public CacheSynchronizer(DatabaseRequests databaseRequests, ClientCache clientCache, WriteBehindQueue writeBehindQueue,
+                             ClientConfig clientConfig) {
+        this.databaseRequests = databaseRequests;
+        this.clientCache = clientCache;
+        this.writeBehindQueue = writeBehindQueue;
+        this.intervalMillis = clientConfig.getCacheSyncIntervalMillis();
+        this.overlapMillis = clientConfig.getCacheSyncOverlapMillis();
+        this.syncExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "cache-sync");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        Timestamp databaseTime = databaseRequests.getDatabaseTime();
+        // Without the database time the first sync reads everything.
+        this.lastSync = databaseTime == null ? new Timestamp(0) : databaseTime;
+    }
+
+    public void start() {
+        syncExecutor.scheduleWithFixedDelay(this::sync, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    private void sync() {
+        Timestamp now = databaseRequests.getDatabaseTime();
+        if (now == null) {
+            return;
+        }
+
+        // Rows written by transactions which committed late can carry a slightly older timestamp.
+        Timestamp since = new Timestamp(lastSync.getTime() - overlapMillis);
+        try {
+            // The change log is read before the tables, so a row deleted in between is never read as existing.
+            Map<String, List<String>> deletedRows = databaseRequests.getDeletedRowsSince(since);
+            List<NotificationChannel> notificationChannels = databaseRequests.getNotificationChannelsChangedSince(since);
+            List<GuildInformation> guilds = databaseRequests.getGuildsChangedSince(since);
+            List<CustomMessage> customMessages = databaseRequests.getCustomMessagesChangedSince(since);
+
+            // Deletes first, the tables only return rows which still exist.
+            int changes = applyDeletes(deletedRows);
+            changes += applyNotificationChannels(notificationChannels);
+            changes += applyGuilds(guilds);
+            changes += applyCustomMessages(customMessages);
+
+            if (failedSyncs > 0) {
+                ClientLogger.createNewClientLogEntry("Cache sync works again after " + failedSyncs + " failed attempt(s).");
+            }
+            failedSyncs = 0;
+            lastSync = now;
+            if (changes > 0) {
+                ClientLogger.createNewClientLogEntry("Cache sync applied " + changes + " change(s).");
+            }
+
+            cleanupTombstones(now);
+        } catch (Exception e) {
+            failedSyncs++;
+            if (failedSyncs == 1) {
+                ClientLogger.createNewErrorLogEntry(e);
+                e.printStackTrace();
+            }
+        }
+    }
+
+    private int applyDeletes(Map<String, List<String>> deletedRows) {
+        int changes = 0;
+        for (String channelID : deletedRows.getOrDefault("channel_notification", Collections.emptyList())) {
+            if (!clientCache.doNotificationChannelExists(channelID)
+                    || !applyUnlessPending("channel_notification:" + channelID, () -> clientCache.removeNotificationChannel(channelID))) continue;
+            clientCache.notifyNotificationChannelChanged(channelID);
+            changes++;
+        }
+        for (String guildID : deletedRows.getOrDefault("guilds", Collections.emptyList())) {
+            if (!clientCache.doGuildExists(guildID)
+                    || !applyUnlessPending("guilds:" + guildID, () -> clientCache.removeGuildInformation(guildID))) continue;
+            clientCache.notifyGuildInformationChanged(guildID);
+            changes++;
+        }
+        for (String customMessageID : deletedRows.getOrDefault("custom_messages", Collections.emptyList())) {
+            int id;
+            try {
+                id = Integer.parseInt(customMessageID);
+            } catch (NumberFormatException e) {
+                ClientLogger.createNewClientLogEntry("Skipped invalid deleted custom message id: " + customMessageID);
+                continue;
+            }
+            if (clientCache.getCustomMessage(id) == null
+                    || !applyUnlessPending("custom_messages:" + id, () -> clientCache.deleteCustomMessageByID(id))) continue;
+            changes++;
+        }
+        return changes;
+    }
+
+    private int applyNotificationChannels(List<NotificationChannel> notificationChannels) {
+        int changes = 0;
+        for (NotificationChannel notificationChannel : notificationChannels) {
+            String channelID = notificationChannel.channelId;
+            if (isUnchanged(clientCache.getNotificationChannel(channelID), notificationChannel)
+                    || !applyUnlessPending("channel_notification:" + channelID, () -> clientCache.putNotificationChannel(notificationChannel))) continue;
+            clientCache.notifyNotificationChannelChanged(channelID);
+            changes++;
+        }
+        return changes;
+    }
+
+    private int applyGuilds(List<GuildInformation> guilds) {
+        int changes = 0;
+        for (GuildInformation guildInformation : guilds) {
+            String guildID = guildInformation.getGuildID();
+            if (isUnchanged(clientCache.getGuildInformation(guildID), guildInformation)
+                    || !applyUnlessPending("guilds:" + guildID, () -> clientCache.putGuildInformation(guildInformation))) continue;
+            clientCache.notifyGuildInformationChanged(guildID);
+            changes++;
+        }
+        return changes;
+    }
+
+    private int applyCustomMessages(List<CustomMessage> customMessages) {
+        int changes = 0;
+        for (CustomMessage customMessage : customMessages) {
+            int customMessageID = customMessage.getCustomMessageID();
+            if (isUnchanged(clientCache.getCustomMessage(customMessageID), customMessage)
+                    || !applyUnlessPending("custom_messages:" + customMessageID, () -> clientCache.addCustomMessageToList(customMessage))) continue;
+            changes++;
+        }
+        return changes;
+    }
+
+    /**
+     * Checks for pending writes and changes the cache while no write can be submitted, so a command can not change
+     * the row in between and lose its change to the older database state. The listeners are notified by the caller
+     * afterwards, they take locks which are held while writes are submitted.
+     *
+     * @return true if the cache was changed.
+     */
+    private boolean applyUnlessPending(String rowKey, Runnable apply) {
+        if (writeBehindQueue == null) {
+            apply.run();
+            return true;
+        }
+        return writeBehindQueue.runUnlessPending(rowKey, apply);
+    }
+
+    private boolean isUnchanged(NotificationChannel cached, NotificationChannel row) {
+        return cached != null
+                && Objects.equals(cached.getTimezone(), row.getTimezone())
+                && cached.getStatus() == row.getStatus()
+                && Objects.equals(cached.getRole(), row.getRole())
+                && cached.isInDebugMode() == row.isInDebugMode()
+                && cached.getSubscriptions() == row.getSubscriptions();
+    }
+
+    private boolean isUnchanged(GuildInformation cached, GuildInformation row) {
+        return cached != null
+                && Objects.equals(cached.getLanguage(), row.getLanguage())
+                && cached.isHeadUpEnabled() == row.isHeadUpEnabled()
+                && cached.isBattlegroundsNotificationsEnabled() == row.isBattlegroundsNotificationsEnabled()
+                && cached.isEventMessageEnabled() == row.isEventMessageEnabled();
+    }
+
+    private boolean isUnchanged(CustomMessage cached, CustomMessage row) {
+        return cached != null
+                && Objects.equals(cached.getChannelID(), row.getChannelID())
+                && Objects.equals(cached.getGuildID(), row.getGuildID())
+                && Objects.equals(cached.getMessage(), row.getMessage())
+                && Objects.equals(cached.getDay(), row.getDay())
+                && Objects.equals(cached.getTime(), row.getTime())
+                && cached.isRepeat() == row.isRepeat();
+    }
+
+    private void cleanupTombstones(Timestamp now) throws SQLException {
+        if (now.getTime() - lastTombstoneCleanup < TOMBSTONE_CLEANUP_INTERVAL_MILLIS) {
+            return;
+        }
+        lastTombstoneCleanup = now.getTime();
+        databaseRequests.deleteTombstonesBefore(new Timestamp(now.getTime() - TOMBSTONE_RETENTION_MILLIS));
+    }
+}
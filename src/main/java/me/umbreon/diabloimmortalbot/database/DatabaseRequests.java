@@ -9,37 +9,33 @@ import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 
 public class DatabaseRequests {
 
+
     private final DatabaseConnection databaseConnection;
+    private final WriteBehindQueue writeBehindQueue;
 
-    public DatabaseRequests(DatabaseConnection databaseConnection) {
+    /**
+     * @param writeBehindQueue queue for all mutations except custom message inserts, or null to write synchronously.
+     */
+    public DatabaseRequests(DatabaseConnection databaseConnection, WriteBehindQueue writeBehindQueue) {
         this.databaseConnection = databaseConnection;
+        this.writeBehindQueue = writeBehindQueue;
     }
 
     public void createNewNotificationChannelEntry(NotificationChannel notificationChannel) {
-        try (Connection connection = databaseConnection.getConnection();
-             PreparedStatement preparedStatement = connection.prepareStatement("INSERT INTO channel_notification (channel, timezone, status, role, debug) VALUES (?, ?, ?, ?, ?)")) {
-            try {
-                preparedStatement.setString(1, notificationChannel.channelId);
-                preparedStatement.setString(2, notificationChannel.timezone);
-                preparedStatement.setInt(3, notificationChannel.status);
-                preparedStatement.setString(4, notificationChannel.role);
-                preparedStatement.setBoolean(5, notificationChannel.inDebugMode);
-                preparedStatement.executeUpdate();
-            } catch (Exception e) {
-                ClientLogger.createNewErrorLogEntry(e);
-                e.printStackTrace();
-            }
-            ClientLogger.createNewClientLogEntry("Executed statement: " + preparedStatement.toString());
-        } catch (SQLException e) {
-            ClientLogger.createNewErrorLogEntry(e);
-            e.printStackTrace();
-        }
+        submit(new PendingWrite("channel_notification:" + notificationChannel.channelId, "insert",
+                "INSERT INTO channel_notification (channel, timezone, status, role, debug, subscriptions) VALUES (?, ?, ?, ?, ?, ?)",
+                notificationChannel.channelId, notificationChannel.timezone, notificationChannel.status,
+                notificationChannel.role, notificationChannel.inDebugMode, notificationChannel.subscriptions));
     }
 
     public Map<String, NotificationChannel> getAllNotificationChannels() {
@@ -48,14 +44,8 @@ public class DatabaseRequests {
              PreparedStatement preparedStatement = connection.prepareStatement("SELECT * FROM channel_notification")) {
             try (ResultSet resultSet = preparedStatement.executeQuery()) {
                 while (resultSet.next()) {
-                    String channelId = resultSet.getString("channel");
-                    String timezone = resultSet.getString("timezone");
-                    int status = resultSet.getInt("status");
-                    String role = resultSet.getString("role");
-                    int debugInt = resultSet.getInt("debug");
-                    boolean debug = (debugInt == 1);
-                    NotificationChannel notificationChannel = new NotificationChannel(channelId, timezone, status, role, debug);
-                    listWithNotificationChannels.put(channelId, notificationChannel);
+                    NotificationChannel notificationChannel = readNotificationChannel(resultSet);
+                    listWithNotificationChannels.put(notificationChannel.channelId, notificationChannel);
                 }
             } catch (Exception e) {
                 ClientLogger.createNewErrorLogEntry(e);
@@ -69,6 +59,20 @@ public class DatabaseRequests {
         return listWithNotificationChannels;
     }
 
+    private NotificationChannel readNotificationChannel(ResultSet resultSet) throws SQLException {
+        String channelId = resultSet.getString("channel");
+        String timezone = resultSet.getString("timezone");
+        int status = resultSet.getInt("status");
+        String role = resultSet.getString("role");
+        int debugInt = resultSet.getInt("debug");
+        boolean debug = (debugInt == 1);
+        long subscriptions = resultSet.getLong("subscriptions");
+        if (resultSet.wasNull()) {
+            subscriptions = NotificationChannel.SUBSCRIPTIONS_FROM_STATUS;
+        }
+        return new NotificationChannel(channelId, timezone, status, role, debug, subscriptions);
+    }
+
     public Map<String, Boolean> getEventTimes(String table, boolean everyDay) {
         Map<String, Boolean> listEventTimeTables = new ConcurrentHashMap<>();
         try (Connection connection = databaseConnection.getConnection();
@@ -124,113 +128,42 @@ public class DatabaseRequests {
     }
 
     public void setTimezone(String messageId, String timezone) {
-        try (Connection connection = databaseConnection.getConnection();
-             PreparedStatement preparedStatement = connection.prepareStatement("UPDATE channel_notification SET timezone = ? WHERE channel = ?")) {
-            try {
-                preparedStatement.setString(1, timezone);
-                preparedStatement.setString(2, messageId);
-                preparedStatement.executeUpdate();
-            } catch (Exception e) {
-                ClientLogger.createNewErrorLogEntry(e);
-                e.printStackTrace();
-            }
-            ClientLogger.createNewClientLogEntry("Executed statement: " + preparedStatement.toString());
-        } catch (SQLException e) {
-            ClientLogger.createNewErrorLogEntry(e);
-            e.printStackTrace();
-        }
+        submit(new PendingWrite("channel_notification:" + messageId, "timezone",
+                "UPDATE channel_notification SET timezone = ? WHERE channel = ?", timezone, messageId));
     }
 
     public void setStatus(String messageId, int status) {
-        try (Connection connection = databaseConnection.getConnection();
-             PreparedStatement preparedStatement = connection.prepareStatement("UPDATE channel_notification SET status = ? WHERE channel = ?")) {
-            try {
-                preparedStatement.setInt(1, status);
-                preparedStatement.setString(2, messageId);
-                preparedStatement.executeUpdate();
-            } catch (Exception e) {
-                ClientLogger.createNewErrorLogEntry(e);
-                e.printStackTrace();
-            }
-            ClientLogger.createNewClientLogEntry("Executed statement: " + preparedStatement.toString());
-        } catch (SQLException e) {
-            ClientLogger.createNewErrorLogEntry(e);
-            e.printStackTrace();
-        }
+        submit(new PendingWrite("channel_notification:" + messageId, "status",
+                "UPDATE channel_notification SET status = ? WHERE channel = ?", status, messageId));
+    }
+
+    public void setSubscriptions(String channelID, long subscriptions) {
+        submit(new PendingWrite("channel_notification:" + channelID, "subscriptions",
+                "UPDATE channel_notification SET subscriptions = ? WHERE channel = ?", subscriptions, channelID));
     }
 
     public void setRole(String messageId, String roleId) {
-        try (Connection connection = databaseConnection.getConnection();
-             PreparedStatement preparedStatement = connection.prepareStatement("UPDATE channel_notification SET role = ? WHERE channel = ?")) {
-            try {
-                preparedStatement.setString(1, roleId);
-                preparedStatement.setString(2, messageId);
-                preparedStatement.executeUpdate();
-            } catch (Exception e) {
-                ClientLogger.createNewErrorLogEntry(e);
-                e.printStackTrace();
-            }
-            ClientLogger.createNewClientLogEntry("Executed statement: " + preparedStatement.toString());
-        } catch (SQLException e) {
-            ClientLogger.createNewErrorLogEntry(e);
-            e.printStackTrace();
-        }
+        submit(new PendingWrite("channel_notification:" + messageId, "role",
+                "UPDATE channel_notification SET role = ? WHERE channel = ?", roleId, messageId));
     }
 
     public void deleteNotificationChannelEntry(String channelid) {
-        try (Connection connection = databaseConnection.getConnection();
-             PreparedStatement preparedStatement = connection.prepareStatement("DELETE FROM channel_notification WHERE channel = ?")) {
-            try {
-                preparedStatement.setString(1, channelid);
-                preparedStatement.executeUpdate();
-            } catch (Exception e) {
-                ClientLogger.createNewErrorLogEntry(e);
-                e.printStackTrace();
-            }
-            ClientLogger.createNewClientLogEntry("Executed statement: " + preparedStatement.toString());
-        } catch (SQLException e) {
-            ClientLogger.createNewErrorLogEntry(e);
-            e.printStackTrace();
-        }
+        submit(new PendingWrite("channel_notification:" + channelid, "*",
+                "DELETE FROM channel_notification WHERE channel = ?", channelid));
+        submitTombstone("channel_notification", channelid);
     }
 
     // Guilds
 
     public void createNewGuildEntry(GuildInformation guildInformation) {
-        try (Connection connection = databaseConnection.getConnection();
-             PreparedStatement preparedStatement = connection.prepareStatement("INSERT INTO guilds (guildID, language, event_headup) VALUES (?, ?, ?)")) {
-            try {
-                preparedStatement.setString(1, guildInformation.getGuildID());
-                preparedStatement.setString(2, guildInformation.getLanguage());
-                preparedStatement.setBoolean(3, guildInformation.isHeadUpEnabled());
-                preparedStatement.executeUpdate();
-            } catch (Exception e) {
-                ClientLogger.createNewErrorLogEntry(e);
-                e.printStackTrace();
-            }
-            ClientLogger.createNewClientLogEntry("Executed statement: " + preparedStatement.toString());
-        } catch (SQLException e) {
-            ClientLogger.createNewErrorLogEntry(e);
-            e.printStackTrace();
-        }
+        submit(new PendingWrite("guilds:" + guildInformation.getGuildID(), "insert",
+                "INSERT INTO guilds (guildID, language, event_headup) VALUES (?, ?, ?)",
+                guildInformation.getGuildID(), guildInformation.getLanguage(), guildInformation.isHeadUpEnabled()));
     }
 
     public void setGuildLanguage(String guildID, String language) {
-        try (Connection connection = databaseConnection.getConnection();
-             PreparedStatement preparedStatement = connection.prepareStatement("UPDATE guilds SET language = ? WHERE guildID = ?")) {
-            try {
-                preparedStatement.setString(1, language);
-                preparedStatement.setString(2, guildID);
-                preparedStatement.executeUpdate();
-            } catch (Exception e) {
-                ClientLogger.createNewErrorLogEntry(e);
-                e.printStackTrace();
-            }
-            ClientLogger.createNewClientLogEntry("Executed statement: " + preparedStatement.toString());
-        } catch (SQLException e) {
-            ClientLogger.createNewErrorLogEntry(e);
-            e.printStackTrace();
-        }
+        submit(new PendingWrite("guilds:" + guildID, "language",
+                "UPDATE guilds SET language = ? WHERE guildID = ?", language, guildID));
     }
 
     public Map<String, GuildInformation> getAllGuilds() {
@@ -239,14 +172,8 @@ public class DatabaseRequests {
              PreparedStatement preparedStatement = connection.prepareStatement("SELECT * FROM guilds")) {
             try (ResultSet resultSet = preparedStatement.executeQuery()) {
                 while (resultSet.next()) {
-
-                    String guildID = resultSet.getString("guildID");
-                    String language = resultSet.getString("language");
-                    boolean isHeadUpEnabled = (resultSet.getInt("event_headup") == 1);
-                    boolean battlegroundNotificationsEnabled = (resultSet.getInt("event_battlegrounds") == 1);
-                    boolean eventMessagesEnabled = (resultSet.getInt("event_message") == 1);
-                    GuildInformation guildInformation = new GuildInformation(guildID, language, isHeadUpEnabled, battlegroundNotificationsEnabled, eventMessagesEnabled);
-                    listWithGuildInformation.put(guildID, guildInformation);
+                    GuildInformation guildInformation = readGuildInformation(resultSet);
+                    listWithGuildInformation.put(guildInformation.getGuildID(), guildInformation);
                 }
             } catch (Exception e) {
                 ClientLogger.createNewErrorLogEntry(e);
@@ -260,44 +187,30 @@ public class DatabaseRequests {
         return listWithGuildInformation;
     }
 
+    private GuildInformation readGuildInformation(ResultSet resultSet) throws SQLException {
+        String guildID = resultSet.getString("guildID");
+        String language = resultSet.getString("language");
+        boolean isHeadUpEnabled = (resultSet.getInt("event_headup") == 1);
+        boolean battlegroundNotificationsEnabled = (resultSet.getInt("event_battlegrounds") == 1);
+        boolean eventMessagesEnabled = (resultSet.getInt("event_message") == 1);
+        return new GuildInformation(guildID, language, isHeadUpEnabled, battlegroundNotificationsEnabled, eventMessagesEnabled);
+    }
+
     public void setEventValue(String event, boolean enabled, String guildID) {
         String finalEventString = "event_" + event;
-        try (Connection connection = databaseConnection.getConnection();
-             PreparedStatement preparedStatement = connection.prepareStatement("UPDATE guilds SET " + finalEventString + " = ? WHERE guildID = ?")) {
-            try {
-                preparedStatement.setBoolean(1, enabled);
-                preparedStatement.setString(2, guildID);
-                preparedStatement.executeUpdate();
-            } catch (Exception e) {
-                ClientLogger.createNewErrorLogEntry(e);
-                e.printStackTrace();
-            }
-            ClientLogger.createNewClientLogEntry("Executed statement: " + preparedStatement.toString());
-        } catch (SQLException e) {
-            ClientLogger.createNewErrorLogEntry(e);
-            e.printStackTrace();
-        }
+        submit(new PendingWrite("guilds:" + guildID, finalEventString,
+                "UPDATE guilds SET " + finalEventString + " = ? WHERE guildID = ?", enabled, guildID));
     }
 
-    public Map<String, CustomMessage> getAllCustomMessages() {
-        Map<String, CustomMessage> customMessagesList = new ConcurrentHashMap<>();
+    public Map<Integer, CustomMessage> getAllCustomMessages() {
+        Map<Integer, CustomMessage> customMessagesList = new ConcurrentHashMap<>();
         try (Connection connection = databaseConnection.getConnection();
              PreparedStatement preparedStatement = connection.prepareStatement("SELECT * FROM custom_messages")) {
             try (ResultSet resultSet = preparedStatement.executeQuery()) {
                 while (resultSet.next()) {
-                    String guildID = resultSet.getString("guildID");
-                    String channelID = resultSet.getString("channelID");
-                    String message = resultSet.getString("message");
-                    String day = resultSet.getString("day");
-                    String time = resultSet.getString("time");
-                    boolean repeat = (resultSet.getInt("message_repeat") == 1);
-                    int id = resultSet.getInt("message_id");
-
-                    CustomMessage customMessage = new CustomMessage(channelID, guildID, message, day, time, id, repeat);
-                    customMessagesList.put(guildID, customMessage);
+                    CustomMessage customMessage = readCustomMessage(resultSet);
+                    customMessagesList.put(customMessage.getCustomMessageID(), customMessage);
                 }
-
-
             } catch (Exception e) {
                 ClientLogger.createNewErrorLogEntry(e);
                 e.printStackTrace();
@@ -310,12 +223,46 @@ public class DatabaseRequests {
         return customMessagesList;
     }
 
+    private CustomMessage readCustomMessage(ResultSet resultSet) throws SQLException {
+        String guildID = resultSet.getString("guildID");
+        String channelID = resultSet.getString("channelID");
+        String message = resultSet.getString("message");
+        String day = resultSet.getString("day");
+        String time = resultSet.getString("time");
+        boolean repeat = (resultSet.getInt("message_repeat") == 1);
+        int id = resultSet.getInt("message_id");
+        return new CustomMessage(channelID, guildID, message, day, time, id, repeat);
+    }
+
     public void deleteCustomMessageEntry(int customMessageID) {
+        submit(new PendingWrite("custom_messages:" + customMessageID, "*",
+                "DELETE FROM custom_messages WHERE message_id = ?", customMessageID));
+        submitTombstone("custom_messages", String.valueOf(customMessageID));
+    }
+
+    /**
+     * Executed synchronously, the generated id is needed to index the message.
+     *
+     * @return the generated message id or -1 if the insert failed.
+     */
+    public int createNewCustomMessageEntry(CustomMessage customMessage) {
+        int customMessageID = -1;
         try (Connection connection = databaseConnection.getConnection();
-             PreparedStatement preparedStatement = connection.prepareStatement("DELETE FROM custom_messages WHERE message_id = ?")) {
+             PreparedStatement preparedStatement = connection.prepareStatement("INSERT INTO custom_messages " +
+                     "(guildID, channelID, message, day, time, message_repeat) VALUES (?, ?, ?, ?, ?, ?)", Statement.RETURN_GENERATED_KEYS)) {
             try {
-                preparedStatement.setInt(1, customMessageID);
+                preparedStatement.setString(1, customMessage.getGuildID());
+                preparedStatement.setString(2, customMessage.getChannelID());
+                preparedStatement.setString(3, customMessage.getMessage());
+                preparedStatement.setString(4, customMessage.getDay());
+                preparedStatement.setString(5, customMessage.getTime());
+                preparedStatement.setBoolean(6, customMessage.isRepeat());
                 preparedStatement.executeUpdate();
+                try (ResultSet generatedKeys = preparedStatement.getGeneratedKeys()) {
+                    if (generatedKeys.next()) {
+                        customMessageID = generatedKeys.getInt(1);
+                    }
+                }
             } catch (Exception e) {
                 ClientLogger.createNewErrorLogEntry(e);
                 e.printStackTrace();
@@ -325,19 +272,118 @@ public class DatabaseRequests {
             ClientLogger.createNewErrorLogEntry(e);
             e.printStackTrace();
         }
+        return customMessageID;
+    }
+
+    // Pruning
+
+    /**
+     * Queues the deletes like every other mutation, so writes of these rows which are still queued are dropped
+     * instead of bringing the rows back once they are flushed. The deletes of a table are queued together, so they
+     * are flushed as one batch.
+     */
+    public void deleteEntries(List<String> channelIDs, List<String> guildIDs, List<Integer> customMessageIDs) {
+        deleteRows("custom_messages", "message_id", customMessageIDs);
+        deleteRows("channel_notification", "channel", channelIDs);
+        deleteRows("guilds", "guildID", guildIDs);
+        ClientLogger.createNewClientLogEntry("Pruned " + channelIDs.size() + " channel(s), " + guildIDs.size() + " guild(s) and "
+                + customMessageIDs.size() + " custom message(s).");
+    }
+
+    private void deleteRows(String table, String keyColumn, List<?> keys) {
+        for (Object key : keys) {
+            submit(new PendingWrite(table + ":" + key, "*", "DELETE FROM " + table + " WHERE " + keyColumn + " = ?", key));
+        }
+        for (Object key : keys) {
+            submitTombstone(table, key.toString());
+        }
+    }
+
+    // Change feed
+
+    /**
+     * @return the current time of the database, or null if it is not reachable.
+     */
+    Timestamp getDatabaseTime() {
+        try (Connection connection = databaseConnection.getConnection();
+             PreparedStatement preparedStatement = connection.prepareStatement("SELECT CURRENT_TIMESTAMP(3)");
+             ResultSet resultSet = preparedStatement.executeQuery()) {
+            return resultSet.next() ? resultSet.getTimestamp(1) : null;
+        } catch (SQLException e) {
+            ClientLogger.createNewErrorLogEntry(e);
+            e.printStackTrace();
+            return null;
+        }
+    }
+
+    List<NotificationChannel> getNotificationChannelsChangedSince(Timestamp since) throws SQLException {
+        return queryChangedSince("SELECT * FROM channel_notification WHERE updated_at >= ?", since, this::readNotificationChannel);
+    }
+
+    List<GuildInformation> getGuildsChangedSince(Timestamp since) throws SQLException {
+        return queryChangedSince("SELECT * FROM guilds WHERE updated_at >= ?", since, this::readGuildInformation);
+    }
+
+    List<CustomMessage> getCustomMessagesChangedSince(Timestamp since) throws SQLException {
+        return queryChangedSince("SELECT * FROM custom_messages WHERE updated_at >= ?", since, this::readCustomMessage);
+    }
+
+    /**
+     * @return the keys of the rows deleted since then, by table.
+     */
+    Map<String, List<String>> getDeletedRowsSince(Timestamp since) throws SQLException {
+        Map<String, List<String>> deletedRows = new HashMap<>();
+        for (String[] deletedRow : queryChangedSince("SELECT table_name, row_key FROM deleted_rows WHERE deleted_at >= ?", since,
+                resultSet -> new String[]{resultSet.getString("table_name"), resultSet.getString("row_key")})) {
+            deletedRows.computeIfAbsent(deletedRow[0], key -> new ArrayList<>()).add(deletedRow[1]);
+        }
+        return deletedRows;
     }
 
-    public void createNewCustomMessageEntry(CustomMessage customMessage) {
+    void deleteTombstonesBefore(Timestamp before) throws SQLException {
         try (Connection connection = databaseConnection.getConnection();
-             PreparedStatement preparedStatement = connection.prepareStatement("INSERT INTO custom_messages " +
-                     "(guildID, channelID, message, day, time, message_repeat) VALUES (?, ?, ?, ?, ?, ?)")) {
+             PreparedStatement preparedStatement = connection.prepareStatement("DELETE FROM deleted_rows WHERE deleted_at < ?")) {
+            preparedStatement.setTimestamp(1, before);
+            preparedStatement.executeUpdate();
+        }
+    }
+
+    private <T> List<T> queryChangedSince(String sql, Timestamp since, RowReader<T> rowReader) throws SQLException {
+        List<T> rows = new ArrayList<>();
+        try (Connection connection = databaseConnection.getConnection();
+             PreparedStatement preparedStatement = connection.prepareStatement(sql)) {
+            preparedStatement.setTimestamp(1, since);
+            try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                while (resultSet.next()) {
+                    rows.add(rowReader.read(resultSet));
+                }
+            }
+        }
+        return rows;
+    }
+
+    /**
+     * Records a delete for the other instances, see {@link CacheSynchronizer}.
+     */
+    private void submitTombstone(String table, String rowKey) {
+        submit(new PendingWrite("deleted_rows:" + table + ":" + rowKey, "insert",
+                "INSERT INTO deleted_rows (table_name, row_key) VALUES (?, ?)", table, rowKey));
+    }
+
+    private interface RowReader<T> {
+        T read(ResultSet resultSet) throws SQLException;
+    }
+
+    private void submit(PendingWrite pendingWrite) {
+        if (writeBehindQueue != null) {
+            writeBehindQueue.enqueue(pendingWrite);
+            return;
+        }
+
+        try (Connection connection = databaseConnection.getConnection();
+             PreparedStatement preparedStatement = connection.prepareStatement(pendingWrite.getSql())) {
             try {
-                preparedStatement.setString(1, customMessage.getGuildID());
-                preparedStatement.setString(2, customMessage.getChannelID());
-                preparedStatement.setString(3, customMessage.getMessage());
-                preparedStatement.setString(4, customMessage.getDay());
-                preparedStatement.setString(5, customMessage.getTime());
-                preparedStatement.setBoolean(6, customMessage.isRepeat());
+                pendingWrite.bind(preparedStatement);
                 preparedStatement.executeUpdate();
             } catch (Exception e) {
                 ClientLogger.createNewErrorLogEntry(e);
@@ -0,0 +1,78 @@
+package me.umbreon.diabloimmortalbot.database;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+class DatabaseSchema {
+
+    private static final String UPDATED_AT = "TIMESTAMP(3) NOT NULL DEFAULT CURRENT_TIMESTAMP(3) ON UPDATE CURRENT_TIMESTAMP(3)";
+
+    private DatabaseSchema() {
+    }
+
+    static void createTables(Connection connection) throws SQLException {
+        String channel_notification = "CREATE TABLE IF NOT EXISTS channel_notification (" +
+                "channel VARCHAR(50) PRIMARY KEY," +
+                "timezone VARCHAR(10)," +
+                "status INT," +
+                "role VARCHAR(20)," +
+                "debug TINYINT(1)," +
+                "subscriptions BIGINT DEFAULT -1" +
+                ");";
+
+        String guilds = "CREATE TABLE IF NOT EXISTS guilds (" +
+                "guildID VARCHAR(20)," +
+                "language VARCHAR(5)," +
+                "enable_headup TINYINT(1) DEFAULT 1" +
+                ");";
+
+        String custom_messages = "CREATE TABLE IF NOT EXISTS custom_messages (" +
+                "guildID VARCHAR(50)," +
+                "channelID VARCHAR(50)," +
+                "message VARCHAR(2000)," +
+                "day VARCHAR(10)," +
+                "time VARCHAR(10)," +
+                "message_repeat TINYINT(1)," +
+                "message_id int NOT NULL AUTO_INCREMENT PRIMARY KEY" + ")";
+
+        // Rows removed from the tables above, read by the CacheSynchronizer of every instance.
+        String deleted_rows = "CREATE TABLE IF NOT EXISTS deleted_rows (" +
+                "table_name VARCHAR(30)," +
+                "row_key VARCHAR(50)," +
+                "deleted_at TIMESTAMP(3) NOT NULL DEFAULT CURRENT_TIMESTAMP(3)," +
+                "INDEX idx_deleted_rows_deleted_at (deleted_at)" +
+                ");";
+
+        try (Statement statement = connection.createStatement()) {
+            statement.execute(channel_notification);
+            statement.execute(guilds);
+            statement.execute(custom_messages);
+            statement.execute(deleted_rows);
+
+            addColumnIfMissing(connection, statement, "channel_notification", "subscriptions", "BIGINT DEFAULT -1");
+            for (String table : new String[]{"channel_notification", "guilds", "custom_messages"}) {
+                if (addColumnIfMissing(connection, statement, table, "updated_at", UPDATED_AT)) {
+                    statement.execute("CREATE INDEX idx_" + table + "_updated_at ON " + table + " (updated_at)");
+                }
+            }
+        }
+    }
+
+    /**
+     * Adds columns which were introduced after the table was created.
+     *
+     * @return true if the column was added.
+     */
+    private static boolean addColumnIfMissing(Connection connection, Statement statement, String table, String column,
+                                           String definition) throws SQLException {
+        try (ResultSet columns = connection.getMetaData().getColumns(connection.getCatalog(), null, table, column)) {
+            if (columns.next()) {
+                return false;
+            }
+        }
+        statement.execute("ALTER TABLE " + table + " ADD COLUMN " + column + " " + definition);
+        return true;
+    }
+}
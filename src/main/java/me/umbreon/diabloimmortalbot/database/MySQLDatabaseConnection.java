@@ -33,32 +33,7 @@ public class MySQLDatabaseConnection implements DatabaseConnection {
         dataSource.setUrl("jdbc:mysql://" + host + ":" + port + "/" + database + "?verifyServerCertificate=false&useSSL=true");
 
         try (Connection connection = dataSource.getConnection()) {
-            String channel_notification = "CREATE TABLE IF NOT EXISTS channel_notification (" +
-                    "channel VARCHAR(50) PRIMARY KEY," +
-                    "timezone VARCHAR(10)," +
-                    "status INT," +
-                    "role VARCHAR(20)," +
-                    "debug TINYINT(1)" +
-                    ");";
-
-            String guilds = "CREATE TABLE IF NOT EXISTS guilds (" +
-                    "guildID VARCHAR(20)," +
-                    "language VARCHAR(5)," +
-                    "enable_headup TINYINT(1) DEFAULT 1" +
-                    ");";
-
-            String custom_messages = "CREATE TABLE IF NOT EXISTS custom_messages (" +
-                    "guildID VARCHAR(50)," +
-                    "channelID VARCHAR(50)," +
-                    "message VARCHAR(2000)," +
-                    "day VARCHAR(10)," +
-                    "time VARCHAR(10)," +
-                    "message_repeat TINYINT(1)," +
-                    "message_id int NOT NULL AUTO_INCREMENT PRIMARY KEY" + ")";
-            connection.createStatement().execute(channel_notification);
-            connection.createStatement().execute(guilds);
-            connection.createStatement().execute(custom_messages);
-
+            DatabaseSchema.createTables(connection);
         } catch (SQLException e) {
             ClientLogger.createNewErrorLogEntry(e);
             e.printStackTrace();
@@ -0,0 +1,128 @@
+package me.umbreon.diabloimmortalbot.database;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.Base64;
+
+/**
+ * A single queued mutation. Writes with the same key replace each other, a delete removes every pending write of
+ * its row.
+ */
+class PendingWrite {
+
+    private static final String SEPARATOR = "\t";
+
+    private final String rowKey;
+    private final String column;
+    private final String sql;
+    private final Object[] parameters;
+
+    PendingWrite(String rowKey, String column, String sql, Object... parameters) {
+        this.rowKey = rowKey;
+        this.column = column;
+        this.sql = sql;
+        this.parameters = parameters;
+    }
+
+    String getKey() {
+        return rowKey + ":" + column;
+    }
+
+    String getRowKey() {
+        return rowKey;
+    }
+
+    boolean isDelete() {
+        return "*".equals(column);
+    }
+
+    String getSql() {
+        return sql;
+    }
+
+    void bind(PreparedStatement preparedStatement) throws SQLException {
+        for (int i = 0; i < parameters.length; i++) {
+            Object parameter = parameters[i];
+            if (parameter == null) {
+                preparedStatement.setNull(i + 1, Types.VARCHAR);
+            } else if (parameter instanceof Integer) {
+                preparedStatement.setInt(i + 1, (Integer) parameter);
+            } else if (parameter instanceof Long) {
+                preparedStatement.setLong(i + 1, (Long) parameter);
+            } else if (parameter instanceof Boolean) {
+                preparedStatement.setBoolean(i + 1, (Boolean) parameter);
+            } else {
+                preparedStatement.setString(i + 1, parameter.toString());
+            }
+        }
+    }
+
+    /**
+     * @return this write as a single line for the spill file.
+     */
+    String serialize() {
+        StringBuilder line = new StringBuilder()
+                .append(encode(rowKey)).append(SEPARATOR)
+                .append(encode(column)).append(SEPARATOR)
+                .append(encode(sql));
+
+        for (Object parameter : parameters) {
+            line.append(SEPARATOR);
+            if (parameter == null) {
+                line.append("N");
+            } else if (parameter instanceof Integer) {
+                line.append("I").append(parameter);
+            } else if (parameter instanceof Long) {
+                line.append("L").append(parameter);
+            } else if (parameter instanceof Boolean) {
+                line.append("B").append(parameter);
+            } else {
+                line.append("S").append(encode(parameter.toString()));
+            }
+        }
+        return line.toString();
+    }
+
+    static PendingWrite deserialize(String line) {
+        String[] parts = line.split(SEPARATOR, -1);
+        if (parts.length < 3) {
+            throw new IllegalArgumentException("Invalid spilled write: " + line);
+        }
+
+        Object[] parameters = new Object[parts.length - 3];
+        for (int i = 3; i < parts.length; i++) {
+            String part = parts[i];
+            switch (part.isEmpty() ? ' ' : part.charAt(0)) {
+                case 'N':
+                    parameters[i - 3] = null;
+                    break;
+                case 'I':
+                    parameters[i - 3] = Integer.parseInt(part.substring(1));
+                    break;
+                case 'L':
+                    parameters[i - 3] = Long.parseLong(part.substring(1));
+                    break;
+                case 'B':
+                    parameters[i - 3] = Boolean.parseBoolean(part.substring(1));
+                    break;
+                case 'S':
+                    parameters[i - 3] = decode(part.substring(1));
+                    break;
+                default:
+                    throw new IllegalArgumentException("Invalid spilled write: " + line);
+            }
+        }
+
+        return new PendingWrite(decode(parts[0]), decode(parts[1]), decode(parts[2]), parameters);
+    }
+
+    private static String encode(String value) {
+        return Base64.getEncoder().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String decode(String value) {
+        return new String(Base64.getDecoder().decode(value), StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,96 @@
+package me.umbreon.diabloimmortalbot.database;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import me.umbreon.diabloimmortalbot.utils.ClientConfig;
+import me.umbreon.diabloimmortalbot.utils.ClientLogger;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * Keeps a pool of open MySQL connections, so DatabaseRequests don't pay a full connect and TLS handshake per call.
+ * Closing a connection obtained from {@link #getConnection()} returns it to the pool.
+ */
+public class PooledDatabaseConnection implements DatabaseConnection {
+
+    private HikariDataSource dataSource;
+    private final ClientConfig clientConfig;
+
+    public PooledDatabaseConnection(ClientConfig clientConfig) {
+        this.clientConfig = clientConfig;
+        createConnection();
+    }
+
+    public boolean createConnection() {
+        String host = clientConfig.getHost();
+        String database = clientConfig.getDatabase();
+        int port = Integer.parseInt(clientConfig.getPort());
+
+        HikariConfig hikariConfig = new HikariConfig();
+        hikariConfig.setPoolName("diablo-immortal-bot");
+        hikariConfig.setJdbcUrl("jdbc:mysql://" + host + ":" + port + "/" + database + "?verifyServerCertificate=false&useSSL=true");
+        hikariConfig.setUsername(clientConfig.getUsername());
+        hikariConfig.setPassword(clientConfig.getPassword());
+        hikariConfig.setMinimumIdle(clientConfig.getDatabasePoolMinIdle());
+        hikariConfig.setMaximumPoolSize(clientConfig.getDatabasePoolMaxSize());
+        hikariConfig.setValidationTimeout(clientConfig.getDatabasePoolValidationTimeoutMillis());
+        hikariConfig.setLeakDetectionThreshold(clientConfig.getDatabasePoolLeakDetectionMillis());
+        hikariConfig.setRegisterMbeans(true);
+        hikariConfig.addDataSourceProperty("cachePrepStmts", "true");
+        hikariConfig.addDataSourceProperty("prepStmtCacheSize", "250");
+        hikariConfig.addDataSourceProperty("useServerPrepStmts", "true");
+
+        try {
+            dataSource = new HikariDataSource(hikariConfig);
+        } catch (RuntimeException e) {
+            ClientLogger.createNewErrorLogEntry(e);
+            e.printStackTrace();
+            return false;
+        }
+
+        try (Connection connection = dataSource.getConnection()) {
+            DatabaseSchema.createTables(connection);
+        } catch (SQLException e) {
+            ClientLogger.createNewErrorLogEntry(e);
+            e.printStackTrace();
+        }
+        return true;
+    }
+
+    public void closeConnection() {
+        if (dataSource != null) {
+            ClientLogger.createNewClientLogEntry("Closing database pool. " + getPoolMetrics());
+            dataSource.close();
+        }
+    }
+
+    public Connection getConnection() {
+        try {
+            return dataSource.getConnection();
+        } catch (SQLException e) {
+            ClientLogger.createNewErrorLogEntry(e);
+            return null;
+        }
+    }
+
+    /**
+     * @return e.g. "Pool: active=2, idle=8, total=10, waiting=0"
+     */
+    public String getPoolMetrics() {
+        if (dataSource == null) {
+            return "Pool: not running";
+        }
+
+        HikariPoolMXBean pool = dataSource.getHikariPoolMXBean();
+        if (pool == null) {
+            return "Pool: not running";
+        }
+
+        return "Pool: active=" + pool.getActiveConnections() +
+                ", idle=" + pool.getIdleConnections() +
+                ", total=" + pool.getTotalConnections() +
+                ", waiting=" + pool.getThreadsAwaitingConnection();
+    }
+}
@@ -0,0 +1,301 @@
+package me.umbreon.diabloimmortalbot.database;
+
+import me.umbreon.diabloimmortalbot.utils.ClientConfig;
+import me.umbreon.diabloimmortalbot.utils.ClientLogger;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.sql.*;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Collects mutations from {@link DatabaseRequests} and writes them on a background thread, so command handlers never
+ * wait for MySQL. Repeated writes to the same row and column are coalesced, only the latest value is written.
+ * Writes which could not be flushed because the database is unavailable stay queued and are spilled to disk, the
+ * spill file is replayed on the next start.
+ */
+public class WriteBehindQueue {
+
+    private final DatabaseConnection databaseConnection;
+    private final long flushIntervalMillis;
+    private final Path spillFile;
+    private final Map<String, PendingWrite> pendingWrites = new LinkedHashMap<>();
+    private final ScheduledExecutorService flushExecutor;
+
+    private int failedFlushes;
+    private int flushedWrites;
+
+    public WriteBehindQueue(DatabaseConnection databaseConnection, ClientConfig clientConfig) {
+        this.databaseConnection = databaseConnection;
+        this.flushIntervalMillis = clientConfig.getWriteBehindFlushIntervalMillis();
+        this.spillFile = Paths.get(clientConfig.getWriteBehindSpillFile());
+        this.flushExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "write-behind");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Replays the spill file before the caches are loaded, so they see the spilled writes.
+     */
+    public void start() {
+        loadSpillFile();
+        flush();
+        flushExecutor.scheduleWithFixedDelay(this::flush, flushIntervalMillis, flushIntervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Stops the background thread and flushes everything still queued.
+     */
+    public void shutdown() {
+        flushExecutor.shutdown();
+        try {
+            flushExecutor.awaitTermination(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        flush();
+    }
+
+    public int getPendingWriteCount() {
+        synchronized (pendingWrites) {
+            return pendingWrites.size();
+        }
+    }
+
+    /**
+     * @return true if a write to the row is not flushed yet.
+     */
+    boolean hasPendingWrites(String rowKey) {
+        synchronized (pendingWrites) {
+            for (PendingWrite pendingWrite : pendingWrites.values()) {
+                if (pendingWrite.getRowKey().equals(rowKey)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+    /**
+     * Runs the action unless the row has pending writes. No write can be submitted while it runs, so the action must
+     * not wait for locks which are held while writes are submitted.
+     *
+     * @return true if the action ran.
+     */
+    boolean runUnlessPending(String rowKey, Runnable action) {
+        synchronized (pendingWrites) {
+            if (hasPendingWrites(rowKey)) {
+                return false;
+            }
+            action.run();
+            return true;
+        }
+    }
+
+    void enqueue(PendingWrite pendingWrite) {
+        synchronized (pendingWrites) {
+            if (pendingWrite.isDelete()) {
+                pendingWrites.values().removeIf(write -> write.getRowKey().equals(pendingWrite.getRowKey()));
+            }
+            // Re-inserting moves the write behind everything queued in the meantime.
+            pendingWrites.remove(pendingWrite.getKey());
+            pendingWrites.put(pendingWrite.getKey(), pendingWrite);
+        }
+    }
+
+    private synchronized void flush() {
+        List<PendingWrite> writes;
+        synchronized (pendingWrites) {
+            if (pendingWrites.isEmpty()) {
+                return;
+            }
+            writes = new ArrayList<>(pendingWrites.values());
+            pendingWrites.clear();
+        }
+
+        flushedWrites = 0;
+        try {
+            executeBatches(writes);
+            if (failedFlushes > 0) {
+                ClientLogger.createNewClientLogEntry("Database is available again. Flushed " + writes.size() + " queued write(s).");
+            }
+            failedFlushes = 0;
+            updateSpillFile();
+        } catch (Exception e) {
+            failedFlushes++;
+            List<PendingWrite> remaining = writes.subList(flushedWrites, writes.size());
+            requeue(remaining);
+            spill();
+            if (failedFlushes == 1) {
+                ClientLogger.createNewErrorLogEntry(e);
+                e.printStackTrace();
+            }
+            ClientLogger.createNewClientLogEntry("Flushing " + remaining.size() + " write(s) failed (attempt " + failedFlushes + "). Retrying in " + flushIntervalMillis + "ms.");
+        }
+    }
+
+    /**
+     * Executes consecutive writes with the same statement as one JDBC batch. A batch which fails because of its data
+     * instead of the connection is retried write by write and the broken writes are dropped. Writes the driver already
+     * executed are not retried, guilds and deleted_rows have no key which would keep them from being inserted twice.
+     */
+    private void executeBatches(List<PendingWrite> writes) throws SQLException {
+        try (Connection connection = databaseConnection.getConnection()) {
+            while (flushedWrites < writes.size()) {
+                String sql = writes.get(flushedWrites).getSql();
+                int end = flushedWrites;
+                while (end < writes.size() && writes.get(end).getSql().equals(sql)) {
+                    end++;
+                }
+
+                List<PendingWrite> batch = writes.subList(flushedWrites, end);
+                try (PreparedStatement preparedStatement = connection.prepareStatement(sql)) {
+                    for (PendingWrite pendingWrite : batch) {
+                        pendingWrite.bind(preparedStatement);
+                        preparedStatement.addBatch();
+                    }
+                    preparedStatement.executeBatch();
+                    ClientLogger.createNewClientLogEntry("Executed batch of " + batch.size() + ": " + sql);
+                } catch (SQLException e) {
+                    if (isConnectionProblem(e)) {
+                        throw e;
+                    }
+                    executeIndividually(connection, getFailedWrites(batch, e));
+                }
+                flushedWrites = end;
+            }
+        }
+    }
+
+    /**
+     * @return the writes of the batch which were not executed. The driver either stops at the first failed write or
+     * continues and marks every failed write with EXECUTE_FAILED.
+     */
+    private List<PendingWrite> getFailedWrites(List<PendingWrite> batch, SQLException e) {
+        if (!(e instanceof BatchUpdateException)) {
+            return batch;
+        }
+
+        int[] updateCounts = ((BatchUpdateException) e).getUpdateCounts();
+        if (updateCounts == null) {
+            return batch;
+        }
+
+        List<PendingWrite> failedWrites = new ArrayList<>();
+        for (int i = 0; i < batch.size(); i++) {
+            if (i >= updateCounts.length || updateCounts[i] == Statement.EXECUTE_FAILED) {
+                failedWrites.add(batch.get(i));
+            }
+        }
+        return failedWrites;
+    }
+
+    private void executeIndividually(Connection connection, List<PendingWrite> writes) throws SQLException {
+        for (PendingWrite pendingWrite : writes) {
+            try (PreparedStatement preparedStatement = connection.prepareStatement(pendingWrite.getSql())) {
+                pendingWrite.bind(preparedStatement);
+                preparedStatement.executeUpdate();
+            } catch (SQLException e) {
+                if (isConnectionProblem(e)) {
+                    throw e;
+                }
+                ClientLogger.createNewClientLogEntry("Dropped write " + pendingWrite.getKey() + ": " + e.getMessage());
+            }
+        }
+    }
+
+    private boolean isConnectionProblem(SQLException e) {
+        String sqlState = e.getSQLState();
+        return e instanceof SQLTransientException
+                || e instanceof SQLRecoverableException
+                || e instanceof SQLNonTransientConnectionException
+                || sqlState == null
+                || sqlState.startsWith("08");
+    }
+
+    /**
+     * Puts failed writes back in front of the queue, unless they were replaced or deleted in the meantime.
+     */
+    private void requeue(List<PendingWrite> writes) {
+        synchronized (pendingWrites) {
+            Map<String, PendingWrite> newerWrites = new LinkedHashMap<>(pendingWrites);
+            pendingWrites.clear();
+            for (PendingWrite pendingWrite : writes) {
+                if (newerWrites.containsKey(pendingWrite.getKey())) continue;
+                if (newerWrites.containsKey(pendingWrite.getRowKey() + ":*")) continue;
+                pendingWrites.put(pendingWrite.getKey(), pendingWrite);
+            }
+            pendingWrites.putAll(newerWrites);
+        }
+    }
+
+    private void spill() {
+        List<String> lines = new ArrayList<>();
+        synchronized (pendingWrites) {
+            for (PendingWrite pendingWrite : pendingWrites.values()) {
+                lines.add(pendingWrite.serialize());
+            }
+        }
+
+        try {
+            Path temporaryFile = spillFile.resolveSibling(spillFile.getFileName() + ".tmp");
+            Files.write(temporaryFile, lines, StandardCharsets.UTF_8);
+            Files.move(temporaryFile, spillFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            ClientLogger.createNewErrorLogEntry(e);
+            e.printStackTrace();
+        }
+    }
+
+    private void loadSpillFile() {
+        if (!Files.exists(spillFile)) {
+            return;
+        }
+
+        try {
+            List<String> lines = Files.readAllLines(spillFile, StandardCharsets.UTF_8);
+            for (String line : lines) {
+                if (line.isBlank()) continue;
+                try {
+                    enqueue(PendingWrite.deserialize(line));
+                } catch (IllegalArgumentException e) {
+                    ClientLogger.createNewClientLogEntry(e.getMessage());
+                }
+            }
+            ClientLogger.createNewClientLogEntry("Loaded " + getPendingWriteCount() + " spilled write(s) from " + spillFile);
+        } catch (IOException e) {
+            ClientLogger.createNewErrorLogEntry(e);
+            e.printStackTrace();
+        }
+    }
+
+    private void updateSpillFile() {
+        if (!Files.exists(spillFile)) {
+            return;
+        }
+
+        if (getPendingWriteCount() > 0) {
+            spill();
+            return;
+        }
+
+        try {
+            Files.deleteIfExists(spillFile);
+        } catch (IOException e) {
+            ClientLogger.createNewErrorLogEntry(e);
+            e.printStackTrace();
+        }
+    }
+}
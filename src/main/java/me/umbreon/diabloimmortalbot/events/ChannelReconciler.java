@@ -0,0 +1,221 @@
+package me.umbreon.diabloimmortalbot.events;
+
+import me.umbreon.diabloimmortalbot.data.CustomMessage;
+import me.umbreon.diabloimmortalbot.database.DatabaseRequests;
+import me.umbreon.diabloimmortalbot.utils.ClientCache;
+import me.umbreon.diabloimmortalbot.utils.ClientConfig;
+import me.umbreon.diabloimmortalbot.utils.ClientLogger;
+import net.dv8tion.jda.api.JDA;
+import net.dv8tion.jda.api.entities.TextChannel;
+import net.dv8tion.jda.api.events.ReadyEvent;
+import net.dv8tion.jda.api.events.guild.GuildLeaveEvent;
+import net.dv8tion.jda.api.hooks.ListenerAdapter;
+import net.dv8tion.jda.api.sharding.ShardManager;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Removes notification channels, guilds and custom messages the bot can no longer see from the cache and the
+ * database. Everything is compared once all shards of this process are ready, and the guilds the bot leaves are
+ * collected for a short delay and removed together.
+ * <p>
+ * The rows do not record which process owns them, so the comparison on startup assumes this process is the only
+ * one using the database: it only runs when this process runs every shard. Processes which split the shards only
+ * prune the guilds they leave. Guilds which are unavailable are never pruned, channels are only compared when no
+ * guild is unavailable.
+ */
+public class ChannelReconciler extends ListenerAdapter {
+
+    private final ClientCache clientCache;
+    private final DatabaseRequests databaseRequests;
+    private final long delayMillis;
+    private final int maxPercent;
+    private final ScheduledExecutorService reconcileExecutor;
+
+    private final Set<Integer> readyShards = ConcurrentHashMap.newKeySet();
+    private final AtomicBoolean startupReconcileScheduled = new AtomicBoolean(false);
+    // The channel ids of every left guild, taken from the event while its entity still holds them.
+    private final Map<String, List<String>> leftGuildChannelIDs = new HashMap<>();
+    private final Map<String, JDA> leftGuildShards = new HashMap<>();
+    private boolean leftGuildsScheduled;
+
+    public ChannelReconciler(ClientCache clientCache, DatabaseRequests databaseRequests, ClientConfig clientConfig) {
+        this.clientCache = clientCache;
+        this.databaseRequests = databaseRequests;
+        this.delayMillis = clientConfig.getPruneDelayMillis();
+        this.maxPercent = clientConfig.getPruneMaxPercent();
+        this.reconcileExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "channel-reconciler");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @Override
+    public void onReady(ReadyEvent event) {
+        JDA jda = event.getJDA();
+        readyShards.add(jda.getShardInfo().getShardId());
+
+        ShardManager shardManager = jda.getShardManager();
+        int localShards = shardManager == null ? 1 : shardManager.getShards().size() + shardManager.getShardsQueued();
+        if (readyShards.size() < localShards || !startupReconcileScheduled.compareAndSet(false, true)) {
+            return;
+        }
+        reconcileExecutor.schedule(() -> reconcileAll(jda), delayMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public synchronized void onGuildLeave(GuildLeaveEvent event) {
+        String guildID = event.getGuild().getId();
+        List<String> channelIDs = new ArrayList<>();
+        for (TextChannel textChannel : event.getGuild().getTextChannels()) {
+            channelIDs.add(textChannel.getId());
+        }
+        leftGuildChannelIDs.put(guildID, channelIDs);
+        leftGuildShards.put(guildID, event.getJDA());
+
+        if (!leftGuildsScheduled) {
+            leftGuildsScheduled = true;
+            reconcileExecutor.schedule(this::reconcileLeftGuilds, delayMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private void reconcileAll(JDA jda) {
+        try {
+            List<JDA> shards = getShards(jda);
+            for (JDA shard : shards) {
+                if (shard.getStatus() != JDA.Status.CONNECTED) {
+                    ClientLogger.createNewClientLogEntry("Skipped pruning, shard " + shard.getShardInfo().getShardString() + " is " + shard.getStatus() + ".");
+                    return;
+                }
+            }
+
+            int shardTotal = jda.getShardInfo().getShardTotal();
+            if (shards.size() < shardTotal) {
+                ClientLogger.createNewClientLogEntry("Skipped pruning, this process runs " + shards.size() + " of " + shardTotal + " shards.");
+                return;
+            }
+
+            Set<String> visibleGuildIDs = new HashSet<>();
+            boolean guildsUnavailable = false;
+            for (JDA shard : shards) {
+                shard.getGuildCache().forEach(guild -> visibleGuildIDs.add(guild.getId()));
+                visibleGuildIDs.addAll(shard.getUnavailableGuilds());
+                guildsUnavailable |= !shard.getUnavailableGuilds().isEmpty();
+            }
+            boolean compareChannels = !guildsUnavailable;
+
+            Set<String> deadGuildIDs = new HashSet<>(clientCache.getGuildIDs());
+            deadGuildIDs.removeAll(visibleGuildIDs);
+
+            Set<String> deadChannelIDs = new HashSet<>();
+            if (compareChannels) {
+                for (String channelID : clientCache.getListWithNotificationChannels().keySet()) {
+                    if (findTextChannel(shards, channelID) == null) {
+                        deadChannelIDs.add(channelID);
+                    }
+                }
+            }
+
+            Set<Integer> deadCustomMessageIDs = new HashSet<>();
+            for (CustomMessage customMessage : clientCache.getAllCustomMessages()) {
+                boolean channelGone = compareChannels && findTextChannel(shards, customMessage.getChannelID()) == null;
+                if (channelGone || deadGuildIDs.contains(customMessage.getGuildID())) {
+                    deadCustomMessageIDs.add(customMessage.getCustomMessageID());
+                }
+            }
+
+            if (exceedsLimit(deadGuildIDs.size(), clientCache.getGuildIDs().size(), "guilds")
+                    || exceedsLimit(deadChannelIDs.size(), clientCache.getListWithNotificationChannels().size(), "channels")) {
+                return;
+            }
+            prune(deadChannelIDs, deadGuildIDs, deadCustomMessageIDs);
+        } catch (Exception e) {
+            ClientLogger.createNewErrorLogEntry(e);
+            e.printStackTrace();
+        }
+    }
+
+    private void reconcileLeftGuilds() {
+        Map<String, List<String>> guildChannelIDs;
+        Map<String, JDA> guildShards;
+        synchronized (this) {
+            guildChannelIDs = new HashMap<>(leftGuildChannelIDs);
+            guildShards = new HashMap<>(leftGuildShards);
+            leftGuildChannelIDs.clear();
+            leftGuildShards.clear();
+            leftGuildsScheduled = false;
+        }
+
+        try {
+            Set<String> deadGuildIDs = new HashSet<>();
+            Set<String> deadChannelIDs = new HashSet<>();
+            Set<Integer> deadCustomMessageIDs = new HashSet<>();
+            for (Map.Entry<String, List<String>> entry : guildChannelIDs.entrySet()) {
+                String guildID = entry.getKey();
+                if (guildShards.get(guildID).getGuildById(guildID) != null) {
+                    // Joined again in the meantime.
+                    continue;
+                }
+
+                deadGuildIDs.add(guildID);
+                for (String channelID : entry.getValue()) {
+                    if (clientCache.doNotificationChannelExists(channelID)) {
+                        deadChannelIDs.add(channelID);
+                    }
+                }
+                for (CustomMessage customMessage : clientCache.getAllCustomMessagesByGuildID(guildID)) {
+                    deadCustomMessageIDs.add(customMessage.getCustomMessageID());
+                }
+            }
+
+            deadGuildIDs.retainAll(clientCache.getGuildIDs());
+            prune(deadChannelIDs, deadGuildIDs, deadCustomMessageIDs);
+        } catch (Exception e) {
+            ClientLogger.createNewErrorLogEntry(e);
+            e.printStackTrace();
+        }
+    }
+
+    private void prune(Set<String> channelIDs, Set<String> guildIDs, Set<Integer> customMessageIDs) {
+        if (channelIDs.isEmpty() && guildIDs.isEmpty() && customMessageIDs.isEmpty()) {
+            return;
+        }
+
+        databaseRequests.deleteEntries(new ArrayList<>(channelIDs), new ArrayList<>(guildIDs), new ArrayList<>(customMessageIDs));
+        customMessageIDs.forEach(clientCache::deleteCustomMessageByID);
+        channelIDs.forEach(clientCache::deleteNotificationChannel);
+        guildIDs.forEach(clientCache::deleteGuildInformation);
+    }
+
+    /**
+     * Guards against a broken gateway state wiping the tables.
+     */
+    private boolean exceedsLimit(int dead, int total, String name) {
+        if (total == 0 || dead * 100L <= (long) total * maxPercent) {
+            return false;
+        }
+        ClientLogger.createNewClientLogEntry("Skipped pruning, " + dead + " of " + total + " " + name + " are gone, more than PRUNE_MAX_PERCENT.");
+        return true;
+    }
+
+    private TextChannel findTextChannel(Collection<JDA> shards, String channelID) {
+        for (JDA shard : shards) {
+            TextChannel textChannel = shard.getTextChannelById(channelID);
+            if (textChannel != null) {
+                return textChannel;
+            }
+        }
+        return null;
+    }
+
+    private List<JDA> getShards(JDA jda) {
+        ShardManager shardManager = jda.getShardManager();
+        return shardManager == null ? Collections.singletonList(jda) : new ArrayList<>(shardManager.getShards());
+    }
+}
@@ -0,0 +1,207 @@
+package me.umbreon.diabloimmortalbot.events;
+
+import me.umbreon.diabloimmortalbot.commands.CommandDispatcher;
+import me.umbreon.diabloimmortalbot.commands.SlashCommandContext;
+import me.umbreon.diabloimmortalbot.languages.Language;
+import me.umbreon.diabloimmortalbot.languages.MessageCatalog;
+import me.umbreon.diabloimmortalbot.languages.MessageKey;
+import me.umbreon.diabloimmortalbot.utils.ClientCache;
+import net.dv8tion.jda.api.entities.ChannelType;
+import net.dv8tion.jda.api.events.ReadyEvent;
+import net.dv8tion.jda.api.events.interaction.command.SlashCommandInteractionEvent;
+import net.dv8tion.jda.api.hooks.ListenerAdapter;
+import net.dv8tion.jda.api.interactions.commands.OptionMapping;
+import net.dv8tion.jda.api.interactions.commands.OptionType;
+import net.dv8tion.jda.api.interactions.commands.build.CommandData;
+import net.dv8tion.jda.api.interactions.commands.build.Commands;
+import net.dv8tion.jda.api.interactions.commands.build.OptionData;
+import net.dv8tion.jda.api.interactions.commands.build.SubcommandData;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * The slash commands of every prefix command. Their options are typed, so they are only turned back into the
+ * arguments the commands expect and run through the {@link CommandDispatcher}. Replies are deferred, because some
+ * commands write to the database before they answer.
+ */
+public class SlashCommandReceived extends ListenerAdapter {
+
+    private static final String[] WEEKDAYS = {"Monday", "Tuesday", "Wednesday", "Thursday", "Friday", "Saturday", "Sunday"};
+
+    private final CommandDispatcher commandDispatcher;
+    private final ClientCache clientCache;
+
+    public SlashCommandReceived(CommandDispatcher commandDispatcher, ClientCache clientCache) {
+        this.commandDispatcher = commandDispatcher;
+        this.clientCache = clientCache;
+    }
+
+    /**
+     * The commands are global, only the process running the first shard registers them.
+     */
+    @Override
+    public void onReady(ReadyEvent event) {
+        if (event.getJDA().getShardInfo().getShardId() == 0) {
+            event.getJDA().updateCommands().addCommands(createCommandData()).queue();
+        }
+    }
+
+    @Override
+    public void onSlashCommandInteraction(SlashCommandInteractionEvent event) {
+        if (!event.isFromGuild() || event.getChannelType() != ChannelType.TEXT) {
+            Language language = event.isFromGuild() ? Language.fromCode(clientCache.getLanguage(event.getGuild().getId())) : Language.ENG;
+            event.reply(MessageCatalog.get(MessageKey.TEXT_CHANNELS_ONLY, language)).setEphemeral(true).queue();
+            return;
+        }
+
+        event.deferReply(true).queue();
+        String[] args = getArgs(event);
+        String language = clientCache.getLanguage(event.getGuild().getId());
+        switch (commandDispatcher.dispatch(args[0], new SlashCommandContext(event, args))) {
+            case UNKNOWN_COMMAND:
+                event.getHook().sendMessage(String.format(MessageCatalog.get(MessageKey.UNKNOWN_COMMAND, language), "/help")).queue();
+                break;
+            case NOT_PERMITTED:
+                event.getHook().sendMessage(MessageCatalog.get(MessageKey.MISSING_BOT_ADMIN, language)).queue();
+                break;
+            default:
+                break;
+        }
+    }
+
+    /**
+     * @return the options in the order the prefix command expects them.
+     */
+    private String[] getArgs(SlashCommandInteractionEvent event) {
+        List<String> args = new ArrayList<>();
+        args.add(">" + event.getName());
+
+        switch (event.getName()) {
+            case "status":
+            case "language":
+                addOption(args, event.getOption(event.getName()));
+                break;
+            case "timezone":
+            case "timezones":
+            case "checktimezone":
+                addOption(args, event.getOption("timezone"));
+                break;
+            case "role":
+                OptionMapping here = event.getOption("here");
+                OptionMapping role = event.getOption("role");
+                if (here != null && here.getAsBoolean()) {
+                    args.add("@here");
+                } else if (role != null) {
+                    args.add(role.getAsRole().getId());
+                } else {
+                    // The public role has the id of the guild and mentions everyone.
+                    args.add(event.getGuild().getId());
+                }
+                break;
+            case "subscribe":
+            case "unsubscribe":
+                Collections.addAll(args, event.getOption("events").getAsString().trim().split("[\\s,]+"));
+                break;
+            case "notifications":
+                addOption(args, event.getOption("event"));
+                addOption(args, event.getOption("enabled"));
+                break;
+            case "cm":
+                args.add(event.getSubcommandName());
+                if ("create".equals(event.getSubcommandName())) {
+                    addOption(args, event.getOption("channel"));
+                    addOption(args, event.getOption("weekday"));
+                    addOption(args, event.getOption("time"));
+                    addOption(args, event.getOption("repeat"));
+                    Collections.addAll(args, event.getOption("message").getAsString().split(" "));
+                } else if ("delete".equals(event.getSubcommandName())) {
+                    addOption(args, event.getOption("id"));
+                }
+                break;
+        }
+        return args.toArray(new String[0]);
+    }
+
+    private void addOption(List<String> args, OptionMapping option) {
+        if (option == null) {
+            return;
+        }
+
+        switch (option.getType()) {
+            case BOOLEAN:
+                args.add(option.getAsBoolean() ? "yes" : "no");
+                break;
+            case CHANNEL:
+                args.add(option.getAsGuildChannel().getId());
+                break;
+            default:
+                args.add(option.getAsString());
+        }
+    }
+
+    private List<CommandData> createCommandData() {
+        List<CommandData> commandData = new ArrayList<>();
+        commandData.add(Commands.slash("register", "Registers this channel as notifier channel."));
+        commandData.add(Commands.slash("unregister", "Unregisters this channel."));
+        commandData.add(Commands.slash("status", "Selects which messages this channel gets.")
+                .addOptions(new OptionData(OptionType.INTEGER, "status", "The messages of this channel.", true)
+                        .addChoice("All messages", 0)
+                        .addChoice("Only overworld", 1)
+                        .addChoice("Only immortal", 2)
+                        .addChoice("Only shadow", 3)
+                        .addChoice("Immortal with overworld", 4)
+                        .addChoice("Shadow with overworld", 5)
+                        .addChoice("Immortal with overworld embed messages", 7)
+                        .addChoice("Shadow with overworld embed messages", 8)
+                        .addChoice("Overworld events with embed (no ping)", 9)
+                        .addChoice("Debug mode", 128)));
+        commandData.add(Commands.slash("timezone", "Sets the timezone of this channel.")
+                .addOption(OptionType.STRING, "timezone", "The timezone, e.g. GMT+2.", true));
+        commandData.add(Commands.slash("timezones", "Shows the times of all timezones.")
+                .addOption(OptionType.STRING, "timezone", "The timezone to start from, GMT if empty.", false));
+        commandData.add(Commands.slash("checktimezone", "Shows the time in a timezone.")
+                .addOption(OptionType.STRING, "timezone", "The timezone, e.g. GMT+2.", true));
+        commandData.add(Commands.slash("role", "Sets the role mentioned in this channel, everyone if empty.")
+                .addOption(OptionType.ROLE, "role", "The role to mention.", false)
+                .addOption(OptionType.BOOLEAN, "here", "Mention everyone online instead of a role.", false));
+        commandData.add(Commands.slash("subscribe", "Adds events to this channel.")
+                .addOption(OptionType.STRING, "events", "Events separated by spaces, e.g. DEMON_GATES BATTLEGROUND_HEADUP or ALL.", true));
+        commandData.add(Commands.slash("unsubscribe", "Removes events from this channel.")
+                .addOption(OptionType.STRING, "events", "Events separated by spaces, e.g. DEMON_GATES BATTLEGROUND_HEADUP or ALL.", true));
+
+        OptionData languageOption = new OptionData(OptionType.STRING, "language", "The language of the bot.", true);
+        for (Language language : Language.values()) {
+            languageOption.addChoice(language.getDisplayName(), language.name());
+        }
+        commandData.add(Commands.slash("language", "Sets the language of the bot on this server.").addOptions(languageOption));
+        commandData.add(Commands.slash("languages", "Shows all languages."));
+        commandData.add(Commands.slash("notifications", "Enables or disables notifications on this server.")
+                .addOptions(new OptionData(OptionType.STRING, "event", "The notifications.", true)
+                        .addChoice("Battlegrounds", "battlegrounds")
+                        .addChoice("Head up messages", "headup")
+                        .addChoice("Event messages", "message"))
+                .addOption(OptionType.BOOLEAN, "enabled", "Whether they are sent.", true));
+
+        OptionData weekdayOption = new OptionData(OptionType.STRING, "weekday", "The day the message is sent.", true);
+        for (String weekday : WEEKDAYS) {
+            weekdayOption.addChoice(weekday, weekday);
+        }
+        commandData.add(Commands.slash("cm", "Manages custom messages.")
+                .addSubcommands(new SubcommandData("create", "Creates a custom message.")
+                                .addOptions(new OptionData(OptionType.CHANNEL, "channel", "The channel of the message.", true)
+                                        .setChannelTypes(ChannelType.TEXT))
+                                .addOptions(weekdayOption)
+                                .addOption(OptionType.STRING, "time", "The time the message is sent, e.g. 16:30.", true)
+                                .addOption(OptionType.BOOLEAN, "repeat", "Whether the message is sent every week.", true)
+                                .addOption(OptionType.STRING, "message", "The message.", true),
+                        new SubcommandData("delete", "Deletes a custom message.")
+                                .addOption(OptionType.INTEGER, "id", "The id shown by /cm list.", true),
+                        new SubcommandData("list", "Shows all custom messages.")));
+        commandData.add(Commands.slash("whatismychannelid", "Shows the id of this channel."));
+        commandData.add(Commands.slash("instructions", "Shows how to set up the bot."));
+        commandData.add(Commands.slash("help", "Shows all commands."));
+        return commandData;
+    }
+}
@@ -0,0 +1,118 @@
+package me.umbreon.diabloimmortalbot.gameevents;
+
+import me.umbreon.diabloimmortalbot.database.DatabaseRequests;
+import me.umbreon.diabloimmortalbot.utils.ClientLogger;
+import me.umbreon.diabloimmortalbot.utils.Time;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * All event schedules compiled into one slot per minute of the week (Monday 00:00 = 0).
+ * Every slot holds a bitmask: bit {@code event} (the id of a {@link GameEvent}) is set when the event starts in that minute,
+ * bit {@code 32 + event} when its head up message is due.
+ */
+public class EventTimeline {
+
+    public static final int MINUTES_PER_DAY = 24 * 60;
+    public static final int MINUTES_PER_WEEK = 7 * MINUTES_PER_DAY;
+
+    private static final int HEAD_UP_OFFSET = 32;
+    public static final long HEAD_UP_BITS = -1L << HEAD_UP_OFFSET;
+
+    private final long[] timeline = new long[MINUTES_PER_WEEK];
+
+    public EventTimeline(DatabaseRequests databaseRequests, GameEventRegistry gameEventRegistry) {
+        for (GameEvent gameEvent : gameEventRegistry.getGameEvents()) {
+            if (gameEvent.hasEmbed()) {
+                addOverworldEventTimes(gameEvent.getId(), databaseRequests.getOverworldEventTimes(gameEvent.getTable()));
+            } else {
+                addEventTimes(gameEvent.getId(), databaseRequests.getEventTimes(gameEvent.getTable(), gameEvent.isEveryDay()), gameEvent.isEveryDay());
+            }
+        }
+    }
+
+    public long getEventsAt(int minuteOfWeek) {
+        return timeline[minuteOfWeek];
+    }
+
+    public static boolean hasHeadUp(long events) {
+        return (events >>> HEAD_UP_OFFSET) != 0;
+    }
+
+    /**
+     * @param eventBits event bits, e.g. a status subscription.
+     * @return the event bits together with their head up bits.
+     */
+    public static long withHeadUps(long eventBits) {
+        return eventBits | (eventBits << HEAD_UP_OFFSET);
+    }
+
+    public static boolean isScheduled(long events, int event) {
+        return (events & (eventBit(event) | headUpBit(event))) != 0;
+    }
+
+    public static boolean isEventTime(long events, int event) {
+        return (events & eventBit(event)) != 0;
+    }
+
+    public static boolean isHeadUpTime(long events, int event) {
+        return (events & headUpBit(event)) != 0;
+    }
+
+    public static long eventBit(int event) {
+        return 1L << event;
+    }
+
+    public static long headUpBit(int event) {
+        return 1L << (HEAD_UP_OFFSET + event);
+    }
+
+    private void addEventTimes(int event, Map<String, Boolean> eventTimes, boolean everyDay) {
+        eventTimes.forEach((time, headUp) -> {
+            long bit = headUp ? headUpBit(event) : eventBit(event);
+            if (everyDay) {
+                int minuteOfDay = parseMinuteOfDay(time);
+                if (minuteOfDay == -1) return;
+                for (int day = 0; day < 7; day++) {
+                    timeline[day * MINUTES_PER_DAY + minuteOfDay] |= bit;
+                }
+            } else {
+                int minuteOfWeek = parseMinuteOfWeek(time);
+                if (minuteOfWeek == -1) return;
+                timeline[minuteOfWeek] |= bit;
+            }
+        });
+    }
+
+    private void addOverworldEventTimes(int event, List<String> eventTimes) {
+        for (String time : eventTimes) {
+            int minuteOfWeek = parseMinuteOfWeek(time);
+            if (minuteOfWeek == -1) continue;
+            timeline[minuteOfWeek] |= eventBit(event);
+        }
+    }
+
+    /**
+     * @param time e.g. "Wednesday 20:30"
+     */
+    private int parseMinuteOfWeek(String time) {
+        String[] parts = time.split(" ");
+        int minuteOfWeek = parts.length == 2 ? Time.parseMinuteOfWeek(parts[0], parts[1]) : -1;
+        if (minuteOfWeek == -1) {
+            ClientLogger.createNewClientLogEntry("Skipped invalid event time: " + time);
+        }
+        return minuteOfWeek;
+    }
+
+    /**
+     * @param time e.g. "20:30"
+     */
+    private int parseMinuteOfDay(String time) {
+        int minuteOfDay = Time.parseMinuteOfDay(time);
+        if (minuteOfDay == -1) {
+            ClientLogger.createNewClientLogEntry("Skipped invalid event time: " + time);
+        }
+        return minuteOfDay;
+    }
+}
@@ -0,0 +1,75 @@
+package me.umbreon.diabloimmortalbot.gameevents;
+
+import me.umbreon.diabloimmortalbot.gameevents.OverworldEmbeds.OverworldEmbedTemplate;
+import me.umbreon.diabloimmortalbot.languages.MessageKey;
+
+/**
+ * A game event as defined in gameevents.yaml. Events are either sent as text messages or, when they have an embed
+ * template, as embeds.
+ */
+public class GameEvent {
+
+    public enum Category {
+        OVERWORLD, IMMORTAL, SHADOW, BATTLEGROUND
+    }
+
+    private final int id;
+    private final String name;
+    private final String table;
+    private final Category category;
+    private final boolean everyDay;
+    private final MessageKey messageKey;
+    private final MessageKey headUpMessageKey;
+    private final OverworldEmbedTemplate embedTemplate;
+
+    public GameEvent(int id, String name, String table, Category category, boolean everyDay, MessageKey messageKey,
+                     MessageKey headUpMessageKey, OverworldEmbedTemplate embedTemplate) {
+        this.id = id;
+        this.name = name;
+        this.table = table;
+        this.category = category;
+        this.everyDay = everyDay;
+        this.messageKey = messageKey;
+        this.headUpMessageKey = headUpMessageKey;
+        this.embedTemplate = embedTemplate;
+    }
+
+    /**
+     * @return the bit of this event in the {@link EventTimeline}.
+     */
+    public int getId() {
+        return id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getTable() {
+        return table;
+    }
+
+    public Category getCategory() {
+        return category;
+    }
+
+    public boolean isEveryDay() {
+        return everyDay;
+    }
+
+    public MessageKey getMessageKey() {
+        return messageKey;
+    }
+
+    public MessageKey getHeadUpMessageKey() {
+        return headUpMessageKey;
+    }
+
+    public boolean hasEmbed() {
+        return embedTemplate != null;
+    }
+
+    public OverworldEmbedTemplate getEmbedTemplate() {
+        return embedTemplate;
+    }
+}
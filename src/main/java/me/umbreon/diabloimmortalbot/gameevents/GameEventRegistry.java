@@ -0,0 +1,173 @@
+package me.umbreon.diabloimmortalbot.gameevents;
+
+import me.umbreon.diabloimmortalbot.data.NotificationChannel;
+import me.umbreon.diabloimmortalbot.gameevents.OverworldEmbeds.OverworldEmbedTemplate;
+import me.umbreon.diabloimmortalbot.languages.MessageKey;
+import org.yaml.snakeyaml.Yaml;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * All game events and the events each channel status subscribes to, loaded from gameevents.yaml.
+ */
+public class GameEventRegistry {
+
+    private static final String RESOURCE = "gameevents.yaml";
+    private static final int MAX_EVENTS = 32;
+
+    private final GameEvent[] gameEvents;
+    private final Map<String, GameEvent> gameEventsByName;
+    private final Map<Integer, Long> subscriptions;
+    private final long messageBits;
+    private final long battlegroundBits;
+
+    private GameEventRegistry(GameEvent[] gameEvents, Map<String, GameEvent> gameEventsByName, Map<Integer, Long> subscriptions) {
+        this.gameEvents = gameEvents;
+        this.gameEventsByName = gameEventsByName;
+        this.subscriptions = subscriptions;
+
+        long messageBits = 0;
+        long battlegroundBits = 0;
+        for (GameEvent gameEvent : gameEvents) {
+            if (!gameEvent.hasEmbed()) {
+                messageBits |= EventTimeline.eventBit(gameEvent.getId());
+            }
+            if (gameEvent.getCategory() == GameEvent.Category.BATTLEGROUND) {
+                battlegroundBits |= EventTimeline.withHeadUps(EventTimeline.eventBit(gameEvent.getId()));
+            }
+        }
+        this.messageBits = messageBits;
+        this.battlegroundBits = battlegroundBits;
+    }
+
+    @SuppressWarnings("unchecked")
+    public static GameEventRegistry load() {
+        Map<String, Object> configuration;
+        try (InputStream inputStream = GameEventRegistry.class.getClassLoader().getResourceAsStream(RESOURCE)) {
+            if (inputStream == null) {
+                throw new IllegalStateException(RESOURCE + " is missing.");
+            }
+            configuration = new Yaml().load(inputStream);
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to read " + RESOURCE, e);
+        }
+
+        List<Map<String, Object>> eventDefinitions = (List<Map<String, Object>>) configuration.get("events");
+        if (eventDefinitions.size() > MAX_EVENTS) {
+            throw new IllegalStateException(RESOURCE + " defines more than " + MAX_EVENTS + " events.");
+        }
+
+        GameEvent[] gameEvents = new GameEvent[eventDefinitions.size()];
+        Map<String, GameEvent> gameEventsByName = new HashMap<>();
+        for (int id = 0; id < gameEvents.length; id++) {
+            GameEvent gameEvent = parseGameEvent(id, eventDefinitions.get(id));
+            gameEvents[id] = gameEvent;
+            gameEventsByName.put(gameEvent.getName().toUpperCase(), gameEvent);
+        }
+
+        Map<Integer, Long> subscriptions = new HashMap<>();
+        Map<Object, List<String>> statusDefinitions = (Map<Object, List<String>>) configuration.get("statuses");
+        statusDefinitions.forEach((status, eventNames) -> {
+            long subscription = 0;
+            for (String eventName : eventNames) {
+                GameEvent gameEvent = gameEventsByName.get(eventName.toUpperCase());
+                if (gameEvent == null) {
+                    throw new IllegalStateException("Status " + status + " uses unknown event " + eventName);
+                }
+                subscription |= EventTimeline.eventBit(gameEvent.getId());
+            }
+            subscriptions.put(Integer.parseInt(status.toString()), subscription);
+        });
+
+        return new GameEventRegistry(gameEvents, gameEventsByName, Collections.unmodifiableMap(subscriptions));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static GameEvent parseGameEvent(int id, Map<String, Object> definition) {
+        OverworldEmbedTemplate embedTemplate = null;
+        Map<String, Object> embed = (Map<String, Object>) definition.get("embed");
+        if (embed != null) {
+            embedTemplate = new OverworldEmbedTemplate(id, getString(embed, "title"), getString(embed, "image"),
+                    getString(embed, "thumbnail"), getString(embed, "locationName"), getString(embed, "locationValue"));
+        }
+
+        return new GameEvent(id,
+                getString(definition, "name"),
+                getString(definition, "table"),
+                GameEvent.Category.valueOf(getString(definition, "category")),
+                Boolean.parseBoolean(getString(definition, "everyDay")),
+                getMessageKey(definition, "message"),
+                getMessageKey(definition, "headUpMessage"),
+                embedTemplate);
+    }
+
+    private static MessageKey getMessageKey(Map<String, Object> definition, String key) {
+        String messageKey = getString(definition, key);
+        if (messageKey == null) {
+            return null;
+        }
+        try {
+            return MessageKey.valueOf(messageKey);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalStateException("Event " + getString(definition, "name") + " uses unknown message " + messageKey);
+        }
+    }
+
+    private static String getString(Map<String, Object> definition, String key) {
+        Object value = definition.get(key);
+        return value == null ? null : value.toString();
+    }
+
+    /**
+     * @return all events ordered by id.
+     */
+    public GameEvent[] getGameEvents() {
+        return gameEvents;
+    }
+
+    /**
+     * @return the event or null if there is none with this name.
+     */
+    public GameEvent getGameEvent(String name) {
+        return gameEventsByName.get(name.toUpperCase());
+    }
+
+    /**
+     * @return the event bits the status subscribes to, 0 for unknown statuses.
+     */
+    public long getSubscription(int status) {
+        return subscriptions.getOrDefault(status, 0L);
+    }
+
+    /**
+     * @return the event and head up bits of a channel, taken from its status preset unless it picked its own.
+     */
+    public long resolveSubscriptions(int status, long subscriptions) {
+        if (subscriptions == NotificationChannel.SUBSCRIPTIONS_FROM_STATUS) {
+            return EventTimeline.withHeadUps(getSubscription(status));
+        }
+        return subscriptions;
+    }
+
+    /**
+     * @return the bits a guild's notification settings allow.
+     */
+    public long getGuildMask(boolean headUpEnabled, boolean eventMessageEnabled, boolean battlegroundsNotificationsEnabled) {
+        long mask = -1;
+        if (!headUpEnabled) {
+            mask &= ~EventTimeline.HEAD_UP_BITS;
+        }
+        if (!eventMessageEnabled) {
+            mask &= ~messageBits;
+        }
+        if (!battlegroundsNotificationsEnabled) {
+            mask &= ~battlegroundBits;
+        }
+        return mask;
+    }
+}
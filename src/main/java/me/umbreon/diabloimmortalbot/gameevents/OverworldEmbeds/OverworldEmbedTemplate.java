@@ -0,0 +1,79 @@
+package me.umbreon.diabloimmortalbot.gameevents.OverworldEmbeds;
+
+import me.umbreon.diabloimmortalbot.gameevents.EventTimeline;
+import me.umbreon.diabloimmortalbot.languages.Language;
+import me.umbreon.diabloimmortalbot.languages.MessageCatalog;
+import me.umbreon.diabloimmortalbot.languages.MessageKey;
+import me.umbreon.diabloimmortalbot.utils.TimeSnapshot;
+import net.dv8tion.jda.api.EmbedBuilder;
+import net.dv8tion.jda.api.entities.MessageEmbed;
+
+import java.util.Arrays;
+
+/**
+ * The embed of an overworld event. Title, image, thumbnail and location are built once, only the localized spawn
+ * time fields are added per tick. The rendered embed is cached for the tick, so every channel with the same
+ * language shares one instance.
+ */
+public class OverworldEmbedTemplate {
+
+    private static final long SPAWN_DELAY_SECONDS = 3600 * 2;
+
+    private final int event;
+    private final String title;
+    private final String imageUrl;
+    private final String thumbnailUrl;
+    private final String locationName;
+    private final String locationValue;
+
+    private final MessageEmbed staticEmbed;
+    private final MessageEmbed[] renderedEmbeds = new MessageEmbed[Language.values().length];
+    private long renderedEpochSecond = -1;
+
+    public OverworldEmbedTemplate(int event, String title, String imageUrl, String thumbnailUrl, String locationName, String locationValue) {
+        this.event = event;
+        this.title = title;
+        this.imageUrl = imageUrl;
+        this.thumbnailUrl = thumbnailUrl;
+        this.locationName = locationName;
+        this.locationValue = locationValue;
+        this.staticEmbed = buildStaticEmbed();
+    }
+
+    /**
+     * @return the embed for this tick or null if the event does not spawn in this minute.
+     */
+    public synchronized MessageEmbed render(TimeSnapshot timeSnapshot, long events, Language language) {
+        if (!EventTimeline.isEventTime(events, event)) {
+            return null;
+        }
+
+        if (timeSnapshot.getEpochSecond() != renderedEpochSecond) {
+            Arrays.fill(renderedEmbeds, null);
+            renderedEpochSecond = timeSnapshot.getEpochSecond();
+        }
+
+        MessageEmbed renderedEmbed = renderedEmbeds[language.ordinal()];
+        if (renderedEmbed == null) {
+            renderedEmbed = stamp(language, timeSnapshot.getEpochSecond() + SPAWN_DELAY_SECONDS);
+            renderedEmbeds[language.ordinal()] = renderedEmbed;
+        }
+        return renderedEmbed;
+    }
+
+    private MessageEmbed stamp(Language language, long unix) {
+        EmbedBuilder embedBuilder = new EmbedBuilder(staticEmbed);
+        embedBuilder.getFields().add(0, new MessageEmbed.Field(MessageCatalog.get(MessageKey.SPAWN_AT, language), "<t:" + unix + ">", true));
+        embedBuilder.getFields().add(1, new MessageEmbed.Field(MessageCatalog.get(MessageKey.COUNTDOWN, language), "<t:" + unix + ":R>", true));
+        return embedBuilder.build();
+    }
+
+    private MessageEmbed buildStaticEmbed() {
+        EmbedBuilder embedBuilder = new EmbedBuilder();
+        embedBuilder.setTitle(title);
+        embedBuilder.setImage(imageUrl);
+        embedBuilder.addField(locationName, locationValue, false);
+        embedBuilder.setThumbnail(thumbnailUrl);
+        return embedBuilder.build();
+    }
+}
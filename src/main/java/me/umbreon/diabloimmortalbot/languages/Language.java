@@ -0,0 +1,55 @@
+package me.umbreon.diabloimmortalbot.languages;
+
+/**
+ * The languages of the {@link MessageCatalog}. Adding a language only needs its YAML file and a constant here.
+ */
+public enum Language {
+
+    ENG("English", "english.yaml"),
+    GER("German", "german.yaml"),
+    ESP("Spanish", "spain.yaml"),
+    POL("Polish", "polish.yaml"),
+    FRA("French", "french.yaml"),
+    ITA("Italian", "italian.yaml");
+
+    private static final Language[] VALUES = values();
+
+    private final String displayName;
+    private final String fileName;
+
+    Language(String displayName, String fileName) {
+        this.displayName = displayName;
+        this.fileName = fileName;
+    }
+
+    public String getDisplayName() {
+        return displayName;
+    }
+
+    String getFileName() {
+        return fileName;
+    }
+
+    /**
+     * @return the language with this code, ignoring case, or null if it is not supported.
+     */
+    public static Language parse(String code) {
+        if (code == null) {
+            return null;
+        }
+        for (Language language : VALUES) {
+            if (language.name().equalsIgnoreCase(code)) {
+                return language;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * @return the language with this code, or English if it is not supported.
+     */
+    public static Language fromCode(String code) {
+        Language language = parse(code);
+        return language == null ? ENG : language;
+    }
+}
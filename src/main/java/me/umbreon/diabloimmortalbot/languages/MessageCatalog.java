@@ -0,0 +1,79 @@
+package me.umbreon.diabloimmortalbot.languages;
+
+import me.umbreon.diabloimmortalbot.utils.ClientLogger;
+import org.yaml.snakeyaml.Yaml;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * All messages of all languages, loaded once into a table indexed by {@link Language} and {@link MessageKey}.
+ * Messages missing in a language are filled with the English message, English itself has to contain every key.
+ */
+public class MessageCatalog {
+
+    private static String[][] messages;
+
+    private MessageCatalog() {
+    }
+
+    /**
+     * @throws IllegalStateException if a language file can not be read or English misses a key.
+     */
+    public static void load() {
+        MessageKey[] keys = MessageKey.values();
+        String[][] table = new String[Language.values().length][keys.length];
+
+        for (Language language : Language.values()) {
+            Map<String, Object> languageMessages = loadFile(language.getFileName());
+            List<String> missingKeys = new ArrayList<>();
+
+            for (MessageKey key : keys) {
+                Object message = languageMessages.get(key.name());
+                if (message != null) {
+                    table[language.ordinal()][key.ordinal()] = message.toString();
+                } else if (language == Language.ENG) {
+                    throw new IllegalStateException(language.getFileName() + " is missing " + key.name() + ".");
+                } else {
+                    table[language.ordinal()][key.ordinal()] = table[Language.ENG.ordinal()][key.ordinal()];
+                    missingKeys.add(key.name());
+                }
+            }
+
+            if (!missingKeys.isEmpty()) {
+                ClientLogger.createNewClientLogEntry(language.getFileName() + " is missing " + missingKeys + ", using English instead.");
+            }
+        }
+
+        messages = table;
+    }
+
+    public static String get(MessageKey key, Language language) {
+        return messages[language.ordinal()][key.ordinal()];
+    }
+
+    /**
+     * @param language the code of the language, English is used if it is not supported.
+     */
+    public static String get(MessageKey key, String language) {
+        return get(key, Language.fromCode(language));
+    }
+
+    private static Map<String, Object> loadFile(String fileName) {
+        try (InputStream inputStream = MessageCatalog.class.getClassLoader().getResourceAsStream(fileName)) {
+            if (inputStream == null) {
+                throw new IllegalStateException(fileName + " not found.");
+            }
+            Map<String, Object> languageMessages = new Yaml().load(inputStream);
+            if (languageMessages == null) {
+                throw new IllegalStateException(fileName + " is empty.");
+            }
+            return languageMessages;
+        } catch (IOException e) {
+            throw new IllegalStateException("Could not read " + fileName + ".", e);
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package me.umbreon.diabloimmortalbot.languages;
+
+/**
+ * The keys of all messages in the language files.
+ */
+public enum MessageKey {
+
+    RAID_VAULT,
+    RAID_VAULT_HEADUP,
+    DEFEND_VAULT,
+    DEFEND_VAULT_HEADUP,
+    HAUNTED_CARRIAGE,
+    HAUNTED_CARRIAGE_HEADUP,
+    DEMON_GATES,
+    DEMON_GATES_HEADUP,
+    BATTLEGROUND,
+    BATTLEGROUND_HEADUP,
+    ANCIENT_NIGHTMARE,
+    ANCIENT_NIGHTMARE_HEADUP,
+    ANCIENT_ARENA,
+    ANCIENT_ARENA_HEADUP,
+    ASSEMBLY,
+    ASSEMBLY_HEADUP,
+    SHADOW_LOTTERY,
+    SHADOW_LOTTERY_HEADUP,
+    REGISTERED,
+    ALREADY_REGISTERED,
+    NOT_REGISTERED,
+    ROLE_NOT_FOUND,
+    RECEIVE_ALL_MESSAGES,
+    RECEIVE_OVERWORLD_MESSAGES,
+    RECEIVE_IMMORTAL_MESSAGES,
+    RECEIVE_SHADOW_MESSAGES,
+    RECEIVE_OV_AND_IMMORTAL_MESSAGES,
+    RECEIVE_OV_AND_SHADOW_MESSAGES,
+    TIMEZONE_SET,
+    UNREGISTERED,
+    NOW_IN_DEBUG,
+    NO_LONGER_DEBUG,
+    UNKNOWN_TIMEZONE,
+    UNKNOWN_STATUS,
+    IS_SET,
+    LANGUAGE_NOT_SUPPORTED,
+    LANGUAGE_UPDATED,
+    HEADUP_VALUE_SET_TO,
+    LANGUAGE,
+    EVENT_ENABLED,
+    EVENT_DISABLED,
+    CHANNEL_NOT_FOUND,
+    DO_BOT_GOT_RIGHTS,
+    CUSTOM_MESSAGE_CREATED,
+    NO_CUSTOM_MESSAGES,
+    YOUR_CUSTOM_MESSAGES,
+    CUSTOM_MESSAGE_DELETED,
+    CUSTOM_MESSAGE_WITH_ID_DELETED,
+    INVALID_COMMAND,
+    SPAWN_AT,
+    COUNTDOWN,
+    SUBSCRIPTIONS_UPDATED,
+    UNKNOWN_EVENT,
+    UNKNOWN_COMMAND,
+    MISSING_BOT_ADMIN,
+    TEXT_CHANNELS_ONLY
+}
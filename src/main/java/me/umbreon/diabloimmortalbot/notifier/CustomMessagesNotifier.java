@@ -3,68 +3,56 @@ package me.umbreon.diabloimmortalbot.notifier;
 import me.umbreon.diabloimmortalbot.data.CustomMessage;
 import me.umbreon.diabloimmortalbot.database.DatabaseRequests;
 import me.umbreon.diabloimmortalbot.utils.ClientCache;
-import me.umbreon.diabloimmortalbot.utils.Time;
+import me.umbreon.diabloimmortalbot.utils.TimeSnapshot;
 import net.dv8tion.jda.api.JDA;
 import net.dv8tion.jda.api.entities.TextChannel;
 
-import java.util.Timer;
-import java.util.TimerTask;
-
-public class CustomMessagesNotifier {
+public class CustomMessagesNotifier implements NotifierTask {
 
     private final ClientCache clientCache;
     private final DatabaseRequests databaseRequests;
+    private final ResolvedChannelRegistry resolvedChannelRegistry;
+    private final OutboundMessageScheduler outboundMessageScheduler;
 
-    public CustomMessagesNotifier(ClientCache clientCache, DatabaseRequests databaseRequests) {
+    public CustomMessagesNotifier(ClientCache clientCache, DatabaseRequests databaseRequests, ResolvedChannelRegistry resolvedChannelRegistry,
+                                  OutboundMessageScheduler outboundMessageScheduler) {
         this.clientCache = clientCache;
+        this.resolvedChannelRegistry = resolvedChannelRegistry;
         this.databaseRequests = databaseRequests;
+        this.outboundMessageScheduler = outboundMessageScheduler;
     }
 
-    public void runCustomMessagesNotifierScheduler(JDA jda) {
-
-        new Timer().schedule(new TimerTask() {
-            public void run() {
-                for (CustomMessage customMessage : clientCache.getAllCustomMessages()) {
-
-                    String channel = customMessage.getChannelID();
-
-                    if (!clientCache.doNotificationChannelExists(channel)) {
-                        //Needs to be registered to send messages, could use status 6 for private messages.
-                        return;
-                    }
-
-                    String timezone = clientCache.getTimezone(channel);
-                    String day = customMessage.getDay();
-                    String time = customMessage.getTime();
-                    String fullTime = day + " " + time;
-
-                    if (!isTimeValid(timezone, fullTime)) {
-                        return;
-                    }
-
-                    TextChannel textChannel;
-
-                    try {
-                        textChannel = jda.getTextChannelById(channel);
-                    } catch (NullPointerException e) {
-                        return;
-                    }
-
-                    String message = customMessage.getMessage();
+    @Override
+    public String getName() {
+        return "CustomMessagesNotifier";
+    }
 
-                    textChannel.sendMessage(message).queue();
+    @Override
+    public void runTick(JDA jda, TimeSnapshot timeSnapshot) {
+        OutboundTick outboundTick = outboundMessageScheduler.beginTick(getName(), timeSnapshot);
+        for (CustomMessage customMessage : clientCache.pollDueCustomMessages(timeSnapshot.getInstant())) {
+            sendCustomMessage(customMessage, outboundTick);
+        }
+        outboundTick.seal();
+    }
 
-                    if (!customMessage.isRepeat()) {
-                        clientCache.deleteCustomMessageByID(customMessage.getCustomMessageID());
-                        databaseRequests.deleteCustomMessageEntry(customMessage.getCustomMessageID());
-                    }
-                }
-            }
-        }, 0, 60 * 1000);
+    private void sendCustomMessage(CustomMessage customMessage, OutboundTick outboundTick) {
+        // Runs once for all shards, the registry holds the channels of all of them. Only registered channels have
+        // a timezone, so custom messages are never due in any other channel.
+        ResolvedChannel resolvedChannel = resolvedChannelRegistry.getChannel(customMessage.getChannelID());
+        if (resolvedChannel == null) {
+            return;
+        }
+
+        // A message which is not repeated is only deleted once it was sent, otherwise it is due again next week.
+        Runnable onSent = customMessage.isRepeat() ? null : () -> deleteCustomMessage(customMessage);
+        TextChannel textChannel = resolvedChannel.getTextChannel();
+        outboundMessageScheduler.submit(outboundTick, textChannel.getId(), textChannel.sendMessage(customMessage.getMessage()),
+                OutboundMessageScheduler.PRIORITY_CUSTOM_MESSAGE, onSent);
     }
 
-    private boolean isTimeValid(String timezone, String fullTime) {
-        String time = Time.getTimeWithWeekday(timezone);
-        return time.equals(fullTime);
+    private void deleteCustomMessage(CustomMessage customMessage) {
+        clientCache.deleteCustomMessageByID(customMessage.getCustomMessageID());
+        databaseRequests.deleteCustomMessageEntry(customMessage.getCustomMessageID());
     }
 }
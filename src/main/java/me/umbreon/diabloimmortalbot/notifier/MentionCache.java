@@ -0,0 +1,131 @@
+package me.umbreon.diabloimmortalbot.notifier;
+
+import me.umbreon.diabloimmortalbot.utils.ClientCache;
+import net.dv8tion.jda.api.entities.Guild;
+import net.dv8tion.jda.api.entities.Role;
+import net.dv8tion.jda.api.events.ReconnectedEvent;
+import net.dv8tion.jda.api.events.guild.GuildAvailableEvent;
+import net.dv8tion.jda.api.events.guild.GuildLeaveEvent;
+import net.dv8tion.jda.api.events.guild.GuildReadyEvent;
+import net.dv8tion.jda.api.events.role.RoleDeleteEvent;
+import net.dv8tion.jda.api.hooks.ListenerAdapter;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The mention of every channel, resolved from its role setting once and kept until the role, the channel or the
+ * roles of its guild change. A channel whose role can not be found mentions everyone.
+ */
+public class MentionCache extends ListenerAdapter implements ClientCache.ChangeListener {
+
+    private static final String EVERYONE_MENTION = "@everyone";
+    private static final String HERE_MENTION = "@here";
+
+    private final Map<String, CachedMention> mentions = new ConcurrentHashMap<>();
+
+    public MentionCache(ClientCache clientCache) {
+        clientCache.addChangeListener(this);
+    }
+
+    /**
+     * A change of the role removes the entry only after the role is set, so it can not be replaced by a mention
+     * resolved from the old role.
+     */
+    public String getMention(ResolvedChannel resolvedChannel) {
+        return mentions.computeIfAbsent(resolvedChannel.getChannelID(), channelID -> new CachedMention(resolvedChannel.getGuildID(),
+                resolveMention(resolvedChannel.getNotificationChannel().getRole(), resolvedChannel.getTextChannel().getGuild()))).mention;
+    }
+
+    @Override
+    public void onNotificationChannelChanged(String channelID) {
+        mentions.remove(channelID);
+    }
+
+    @Override
+    public void onGuildInformationChanged(String guildID) {
+    }
+
+    @Override
+    public void onRoleChanged(String channelID) {
+        mentions.remove(channelID);
+    }
+
+    @Override
+    public void onRoleDelete(RoleDeleteEvent event) {
+        invalidateGuild(event.getGuild().getId());
+    }
+
+    @Override
+    public void onGuildReady(GuildReadyEvent event) {
+        invalidateGuild(event.getGuild().getId());
+    }
+
+    @Override
+    public void onGuildAvailable(GuildAvailableEvent event) {
+        invalidateGuild(event.getGuild().getId());
+    }
+
+    @Override
+    public void onGuildLeave(GuildLeaveEvent event) {
+        invalidateGuild(event.getGuild().getId());
+    }
+
+    /**
+     * Roles deleted while the shard was disconnected send no event.
+     */
+    @Override
+    public void onReconnected(ReconnectedEvent event) {
+        event.getJDA().getGuildCache().forEach(guild -> invalidateGuild(guild.getId()));
+    }
+
+    private void invalidateGuild(String guildID) {
+        mentions.values().removeIf(cachedMention -> cachedMention.guildID.equals(guildID));
+    }
+
+    private String resolveMention(String roleID, Guild guild) {
+        if (roleID == null) {
+            return EVERYONE_MENTION;
+        }
+
+        if (roleID.equalsIgnoreCase(HERE_MENTION)) {
+            return HERE_MENTION;
+        }
+
+        if (!isSnowflake(roleID)) {
+            return EVERYONE_MENTION;
+        }
+
+        Role role = guild.getRoleById(roleID);
+        return role == null ? EVERYONE_MENTION : role.getAsMention();
+    }
+
+    /**
+     * Up to 18 digits always fit into a long, longer ids are compared against its maximum.
+     */
+    private boolean isSnowflake(String roleID) {
+        int length = roleID.length();
+        if (length == 0 || length > 19) {
+            return false;
+        }
+
+        for (int i = 0; i < length; i++) {
+            char character = roleID.charAt(i);
+            if (character < '0' || character > '9') {
+                return false;
+            }
+        }
+        return length < 19 || roleID.compareTo(String.valueOf(Long.MAX_VALUE)) <= 0;
+    }
+
+    private static class CachedMention {
+
+        private final String guildID;
+        private final String mention;
+
+        private CachedMention(String guildID, String mention) {
+            this.guildID = guildID;
+            this.mention = mention;
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package me.umbreon.diabloimmortalbot.notifier;
+
+import net.dv8tion.jda.api.MessageBuilder;
+import net.dv8tion.jda.api.entities.Message;
+import net.dv8tion.jda.api.entities.MessageEmbed;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Combines all embeds and the text of a notification into as few messages as Discord allows: up to 10 embeds with
+ * at most 6000 characters in total and 2000 characters of content per message. The content leaves room for the
+ * mention every channel appends to it.
+ */
+public class NotificationComposer {
+
+    // Longer than any role mention, @everyone or @here.
+    private static final int MENTION_RESERVE = 32;
+    private static final int MAX_CHUNK_LENGTH = Message.MAX_CONTENT_LENGTH - MENTION_RESERVE;
+
+    private NotificationComposer() {
+    }
+
+    public static RenderedNotification compose(String content, List<MessageEmbed> embeds, boolean headUp) {
+        List<String> contentChunks = splitContent(content);
+        List<List<MessageEmbed>> embedChunks = splitEmbeds(embeds);
+
+        int messageCount = Math.max(contentChunks.size(), embedChunks.size());
+        // The mention goes behind the last line of content.
+        int mentionIndex = contentChunks.size() - 1;
+        Message[] messages = new Message[messageCount];
+        for (int i = 0; i < messageCount; i++) {
+            if (i != mentionIndex) {
+                messages[i] = build(i < contentChunks.size() ? contentChunks.get(i) : null, getEmbeds(embedChunks, i));
+            }
+        }
+
+        return mentionIndex == -1
+                ? new RenderedNotification(messages, -1, null, null, headUp)
+                : new RenderedNotification(messages, mentionIndex, contentChunks.get(mentionIndex), getEmbeds(embedChunks, mentionIndex), headUp);
+    }
+
+    static Message build(String content, List<MessageEmbed> embeds) {
+        MessageBuilder messageBuilder = new MessageBuilder();
+        if (!embeds.isEmpty()) {
+            messageBuilder.setEmbeds(embeds);
+        }
+        if (content != null) {
+            messageBuilder.setContent(content);
+        }
+        return messageBuilder.build();
+    }
+
+    private static List<MessageEmbed> getEmbeds(List<List<MessageEmbed>> embedChunks, int index) {
+        return index < embedChunks.size() ? embedChunks.get(index) : Collections.emptyList();
+    }
+
+    /**
+     * Splits at line breaks where possible, so no event line is cut in half.
+     */
+    private static List<String> splitContent(String content) {
+        if (content == null || content.isBlank()) {
+            return Collections.emptyList();
+        }
+
+        List<String> chunks = new ArrayList<>();
+        StringBuilder chunk = new StringBuilder();
+        for (String line : content.split("(?<=\n)")) {
+            while (line.length() > MAX_CHUNK_LENGTH) {
+                addChunk(chunks, chunk);
+                chunks.add(line.substring(0, MAX_CHUNK_LENGTH));
+                line = line.substring(MAX_CHUNK_LENGTH);
+            }
+
+            if (chunk.length() + line.length() > MAX_CHUNK_LENGTH) {
+                addChunk(chunks, chunk);
+            }
+            chunk.append(line);
+        }
+        addChunk(chunks, chunk);
+        return chunks;
+    }
+
+    private static void addChunk(List<String> chunks, StringBuilder chunk) {
+        if (chunk.length() > 0 && !chunk.toString().isBlank()) {
+            chunks.add(chunk.toString());
+        }
+        chunk.setLength(0);
+    }
+
+    private static List<List<MessageEmbed>> splitEmbeds(List<MessageEmbed> embeds) {
+        List<List<MessageEmbed>> chunks = new ArrayList<>();
+        List<MessageEmbed> chunk = new ArrayList<>();
+        int chunkLength = 0;
+
+        for (MessageEmbed embed : embeds) {
+            if (chunk.size() == Message.MAX_EMBED_COUNT || chunkLength + embed.getLength() > MessageEmbed.EMBED_MAX_LENGTH_BOT) {
+                chunks.add(chunk);
+                chunk = new ArrayList<>();
+                chunkLength = 0;
+            }
+            chunk.add(embed);
+            chunkLength += embed.getLength();
+        }
+
+        if (!chunk.isEmpty()) {
+            chunks.add(chunk);
+        }
+        return chunks;
+    }
+}
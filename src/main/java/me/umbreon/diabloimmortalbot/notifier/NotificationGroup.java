@@ -0,0 +1,91 @@
+package me.umbreon.diabloimmortalbot.notifier;
+
+import me.umbreon.diabloimmortalbot.languages.Language;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Channels which would receive the exact same notification in a tick. The notification is evaluated and
+ * rendered once per group and then fanned out to every member channel.
+ */
+public class NotificationGroup {
+
+    private final String timezone;
+    private final int status;
+    private final Language language;
+    private final long subscriptions;
+    private final String guildID;
+
+    private final List<ResolvedChannel> channels = new ArrayList<>();
+    private RenderedNotification notification;
+
+    /**
+     * @param subscriptions the event and head up bits the channels receive, already masked by the guild settings.
+     * @param guildID       the guild of the channels if the notification depends on it, otherwise null.
+     */
+    public NotificationGroup(String timezone, int status, Language language, long subscriptions, String guildID) {
+        this.timezone = timezone;
+        this.status = status;
+        this.language = language;
+        this.subscriptions = subscriptions;
+        this.guildID = guildID;
+    }
+
+    public void addChannel(ResolvedChannel resolvedChannel) {
+        channels.add(resolvedChannel);
+    }
+
+    public List<ResolvedChannel> getChannels() {
+        return channels;
+    }
+
+    /**
+     * @return the guild of all channels in this group, or null if the group spans several guilds.
+     */
+    public String getGuildID() {
+        return guildID;
+    }
+
+    public void setNotification(RenderedNotification notification) {
+        this.notification = notification;
+    }
+
+    public RenderedNotification getNotification() {
+        return notification;
+    }
+
+    public String getTimezone() {
+        return timezone;
+    }
+
+    public int getStatus() {
+        return status;
+    }
+
+    public Language getLanguage() {
+        return language;
+    }
+
+    public long getSubscriptions() {
+        return subscriptions;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        NotificationGroup that = (NotificationGroup) o;
+        return status == that.status
+                && subscriptions == that.subscriptions
+                && Objects.equals(timezone, that.timezone)
+                && language == that.language
+                && Objects.equals(guildID, that.guildID);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(timezone, status, language, subscriptions, guildID);
+    }
+}
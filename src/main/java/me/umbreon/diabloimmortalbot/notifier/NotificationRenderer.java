@@ -0,0 +1,78 @@
+package me.umbreon.diabloimmortalbot.notifier;
+
+import me.umbreon.diabloimmortalbot.gameevents.EventTimeline;
+import me.umbreon.diabloimmortalbot.gameevents.GameEvent;
+import me.umbreon.diabloimmortalbot.gameevents.GameEventRegistry;
+import me.umbreon.diabloimmortalbot.languages.Language;
+import me.umbreon.diabloimmortalbot.languages.MessageCatalog;
+import me.umbreon.diabloimmortalbot.languages.MessageKey;
+import me.umbreon.diabloimmortalbot.utils.TimeSnapshot;
+import net.dv8tion.jda.api.entities.MessageEmbed;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Renders the notifications of a tick. A notification only depends on the language and on the events a channel
+ * receives in the minute, which already include its subscriptions and guild settings, so every combination is
+ * rendered once per tick and shared by all groups and shards with the same one.
+ */
+public class NotificationRenderer {
+
+    private final GameEventRegistry gameEventRegistry;
+    private final List<Map<Long, RenderedNotification>> renderedNotifications = new ArrayList<>();
+    private long renderedEpochSecond = -1;
+
+    public NotificationRenderer(GameEventRegistry gameEventRegistry) {
+        this.gameEventRegistry = gameEventRegistry;
+        for (int i = 0; i < Language.values().length; i++) {
+            renderedNotifications.add(new HashMap<>());
+        }
+    }
+
+    /**
+     * @param events the events of this minute the channels receive.
+     */
+    public synchronized RenderedNotification render(TimeSnapshot timeSnapshot, long events, Language language) {
+        if (timeSnapshot.getEpochSecond() != renderedEpochSecond) {
+            renderedNotifications.forEach(Map::clear);
+            renderedEpochSecond = timeSnapshot.getEpochSecond();
+        }
+
+        Map<Long, RenderedNotification> languageNotifications = renderedNotifications.get(language.ordinal());
+        RenderedNotification renderedNotification = languageNotifications.get(events);
+        if (renderedNotification == null) {
+            renderedNotification = render(timeSnapshot, events, language, "");
+            languageNotifications.put(events, renderedNotification);
+        }
+        return renderedNotification;
+    }
+
+    /**
+     * Renders a notification with content of its own in front of the events, it is not shared.
+     */
+    public RenderedNotification render(TimeSnapshot timeSnapshot, long events, Language language, String prefix) {
+        StringBuilder contentBuilder = new StringBuilder(prefix);
+        List<MessageEmbed> embeds = new ArrayList<>();
+
+        for (GameEvent gameEvent : gameEventRegistry.getGameEvents()) {
+            int id = gameEvent.getId();
+            if (!EventTimeline.isScheduled(events, id)) continue;
+
+            if (gameEvent.hasEmbed()) {
+                MessageEmbed messageEmbed = gameEvent.getEmbedTemplate().render(timeSnapshot, events, language);
+                if (messageEmbed != null) {
+                    embeds.add(messageEmbed);
+                }
+                continue;
+            }
+
+            MessageKey messageKey = EventTimeline.isHeadUpTime(events, id) ? gameEvent.getHeadUpMessageKey() : gameEvent.getMessageKey();
+            contentBuilder.append(MessageCatalog.get(messageKey, language)).append("\n");
+        }
+
+        return NotificationComposer.compose(contentBuilder.toString(), embeds, EventTimeline.hasHeadUp(events));
+    }
+}
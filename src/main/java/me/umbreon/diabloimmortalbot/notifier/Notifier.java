@@ -1,297 +1,207 @@
 package me.umbreon.diabloimmortalbot.notifier;
 
 import me.umbreon.diabloimmortalbot.data.GuildInformation;
+import me.umbreon.diabloimmortalbot.data.NotificationChannel;
 import me.umbreon.diabloimmortalbot.database.DatabaseRequests;
-import me.umbreon.diabloimmortalbot.gameevents.*;
-import me.umbreon.diabloimmortalbot.gameevents.OverworldEmbeds.AncientArenaEmbed;
-import me.umbreon.diabloimmortalbot.gameevents.OverworldEmbeds.AncientNightmareEmbed;
-import me.umbreon.diabloimmortalbot.gameevents.OverworldEmbeds.DemonGatesEmbed;
-import me.umbreon.diabloimmortalbot.gameevents.OverworldEmbeds.HauntedCarriageEmbed;
+import me.umbreon.diabloimmortalbot.gameevents.EventTimeline;
+import me.umbreon.diabloimmortalbot.gameevents.GameEventRegistry;
 import me.umbreon.diabloimmortalbot.utils.ClientCache;
 import me.umbreon.diabloimmortalbot.utils.ClientLogger;
-import me.umbreon.diabloimmortalbot.utils.Time;
+import me.umbreon.diabloimmortalbot.utils.TimeSnapshot;
 import net.dv8tion.jda.api.JDA;
 import net.dv8tion.jda.api.entities.Activity;
 import net.dv8tion.jda.api.entities.Guild;
+import net.dv8tion.jda.api.entities.Message;
 import net.dv8tion.jda.api.entities.TextChannel;
+import net.dv8tion.jda.api.sharding.ShardManager;
 
-import java.util.Timer;
-import java.util.TimerTask;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 
-public class Notifier {
+public class Notifier implements NotifierTask {
 
-    private final AncientArea ancientArea;
-    private final AncientNightMare ancientNightMare;
-    private final Battleground battleground;
-    private final DemonGates demonGates;
-    private final HauntedCarriage hauntedCarriage;
-    private final RaidVault raidVault;
     private final ClientCache clientCache;
-    private final Assembly assembly;
-    private final ShadowLottery shadowLottery;
-    private final DatabaseRequests databaseRequests;
-    private final DefendVault defendVault;
-
-    //Overworld Embed Notifications
-    private final AncientNightmareEmbed ancientNightmareEmbed;
-    private final AncientArenaEmbed ancientArenaEmbed;
-    private final DemonGatesEmbed demonGatesEmbed;
-    private final HauntedCarriageEmbed hauntedCarriageEmbed;
-
-    private int debugMessageCountdown = 0;
-
-    public Notifier(DatabaseRequests databaseRequests, ClientCache clientCache) {
+    private final GameEventRegistry gameEventRegistry;
+    private final EventTimeline eventTimeline;
+    private final NotificationRenderer notificationRenderer;
+    private final ResolvedChannelRegistry resolvedChannelRegistry;
+    private final MentionCache mentionCache;
+
+    private final OutboundMessageScheduler outboundMessageScheduler;
+
+    /**
+     * The invalid timezone every channel was last warned about, so a channel is warned once instead of every minute.
+     */
+    private final Map<String, String> invalidTimezoneWarnings = new ConcurrentHashMap<>();
+
+    public Notifier(DatabaseRequests databaseRequests, ClientCache clientCache, GameEventRegistry gameEventRegistry,
+                    ResolvedChannelRegistry resolvedChannelRegistry, MentionCache mentionCache,
+                    OutboundMessageScheduler outboundMessageScheduler) {
         this.clientCache = clientCache;
-        this.assembly = new Assembly(databaseRequests, clientCache);
-        this.shadowLottery = new ShadowLottery(databaseRequests, clientCache);
-        this.ancientArea = new AncientArea(databaseRequests, clientCache);
-        this.ancientNightMare = new AncientNightMare(databaseRequests, clientCache);
-        this.battleground = new Battleground(databaseRequests, clientCache);
-        this.demonGates = new DemonGates(databaseRequests, clientCache);
-        this.hauntedCarriage = new HauntedCarriage(databaseRequests, clientCache);
-        this.raidVault = new RaidVault(databaseRequests, clientCache);
-        this.databaseRequests = databaseRequests;
-        this.defendVault = new DefendVault(databaseRequests, clientCache);
-
-        this.ancientNightmareEmbed = new AncientNightmareEmbed(databaseRequests);
-        this.ancientArenaEmbed = new AncientArenaEmbed(databaseRequests);
-        this.demonGatesEmbed = new DemonGatesEmbed(databaseRequests);
-        this.hauntedCarriageEmbed = new HauntedCarriageEmbed(databaseRequests);
+        this.resolvedChannelRegistry = resolvedChannelRegistry;
+        this.mentionCache = mentionCache;
+        this.outboundMessageScheduler = outboundMessageScheduler;
+        this.gameEventRegistry = gameEventRegistry;
+        this.eventTimeline = new EventTimeline(databaseRequests, gameEventRegistry);
+        this.notificationRenderer = new NotificationRenderer(gameEventRegistry);
     }
 
-    public void runNotifierScheduler(JDA jda) {
-
-        new Timer().schedule(new TimerTask() {
-            public void run() {
-
-                setActivity(jda);
-
-                String guildID = "0";
-                String ownerID = "0";
-
-                for (String channel : clientCache.getListWithNotificationChannels().keySet()) {
-                    try {
-                        TextChannel textChannel = jda.getTextChannelById(channel);
-
-                        if (textChannel != null) {
-
-                            guildID = textChannel.getGuild().getId();
-                            String timezone = clientCache.getTimezone(channel);
-                            registerGuildIfDoNotExists(guildID);
-
-                            String fullTimeWithWeekday = Time.getTimeWithWeekday(timezone);
+    @Override
+    public String getName() {
+        return "Notifier";
+    }
 
-                            if (fullTimeWithWeekday.equalsIgnoreCase("INVALID_TIMEZONE")) {
-                                textChannel.getGuild().getOwner().getUser().openPrivateChannel().queue(privateChannel -> {
-                                    privateChannel.sendMessage("You're using an invalid timezone on your server " +
-                                            textChannel.getGuild().getName() + ". Known working timezones are GMT, UTC and ET.").queue();
-                                });
-                                textChannel.sendMessage("Unknown Timezone. Known timezones are UTC, GMT & ET.").queue();
-                                return;
-                            }
+    /**
+     * Every shard only notifies the channels of its own guilds.
+     */
+    @Override
+    public boolean isShardLocal() {
+        return true;
+    }
 
-                            sendMessageIfPossible(textChannel);
-                        }
+    @Override
+    public void runTick(JDA jda, TimeSnapshot timeSnapshot) {
+        setActivity(jda);
 
-                    } catch (Exception e) {
-                        ClientLogger.createNewErrorLogEntry(e);
-                        e.printStackTrace();
-                    }
+        OutboundTick outboundTick = outboundMessageScheduler.beginTick(getName() + " " + jda.getShardInfo().getShardString(), timeSnapshot);
+        for (NotificationGroup notificationGroup : groupNotificationChannels(jda)) {
+            try {
+                if (!renderNotification(notificationGroup, timeSnapshot, outboundTick)) {
+                    continue;
                 }
+            } catch (Exception e) {
+                ClientLogger.createNewErrorLogEntry(e);
+                e.printStackTrace();
+                continue;
             }
-        }, 0, 60 * 1000);
-    }
 
-    private void registerGuildIfDoNotExists(String guildID) {
-        try {
-            if (!clientCache.doGuildExists(guildID)) {
-                String language = "ENG";
-                GuildInformation guildInformation = new GuildInformation(guildID, language, true, true, true);
-                databaseRequests.createNewGuildEntry(guildInformation);
-                clientCache.addGuildInformation(guildInformation);
+            // Only queued here, the OutboundMessageScheduler spreads the sends.
+            for (ResolvedChannel resolvedChannel : notificationGroup.getChannels()) {
+                try {
+                    sendNotification(notificationGroup, resolvedChannel, outboundTick);
+                } catch (Exception e) {
+                    ClientLogger.createNewErrorLogEntry(e);
+                    e.printStackTrace();
+                }
             }
-        } catch (NullPointerException e) {
-            e.printStackTrace();
         }
+        outboundTick.seal();
     }
 
-    private void sendMessageIfPossible(TextChannel textChannel) {
-        String channelID = textChannel.getId();
-        String timezone = clientCache.getTimezone(channelID);
-        int status = clientCache.getStatus(textChannel.getId());
-        Guild guild = textChannel.getGuild();
-        String guildID = guild.getId();
-        String language = clientCache.getLanguage(guildID);
-
-        StringBuilder notificationMessageBuilder = new StringBuilder();
-
-        switch (status) {
-            case 0:
-                checkForAnyEvent(notificationMessageBuilder, timezone, language, guildID);
-                break;
-            case 1:
-                checkOverworldEvents(notificationMessageBuilder, timezone, language, guildID);
-                break;
-            case 2:
-                checkImmortalEvents(notificationMessageBuilder, timezone, language, guildID);
-                break;
-            case 3:
-                checkShadowEvents(notificationMessageBuilder, timezone, language, guildID);
-                break;
-            case 4:
-                checkImmortalWithOverworldEvents(notificationMessageBuilder, timezone, language, guildID);
-                break;
-            case 5:
-                checkShadowWithOverworldEvents(notificationMessageBuilder, timezone, language, guildID);
-                break;
-            case 7:
-                checkImmortalWithOverworldEmbededEvents(notificationMessageBuilder, timezone, language, guildID, textChannel);
-                break;
-            case 8:
-                checkShadowWithOverworldEmbededEvents(notificationMessageBuilder, timezone, language, guildID, textChannel);
-                break;
-            case 9:
-                checkForOverworldEvents(timezone, textChannel);
-                break;
-            case 128:
-                debugMessageCountdown++;
-                if (debugMessageCountdown == 1) {
-                    debugMessageCountdown = 0;
-                    String debugMessage = "Current time: " + Time.getTimeWithWeekday(timezone) + " in timezone " + timezone + "." +
-                            "\nBattlegrounds: " + clientCache.isBattlegroundsNotificationsEnabled(guildID) +
-                            "\nEvent Messages: " + clientCache.isEventMessageEnabled(guildID) +
-                            "\nHeadUp Messages:" + clientCache.getHeadUpValue(guildID) + "\n";
-                    notificationMessageBuilder.append(debugMessage);
-                }
-                break;
+    private Collection<NotificationGroup> groupNotificationChannels(JDA jda) {
+        Map<NotificationGroup, NotificationGroup> notificationGroups = new HashMap<>();
+
+        for (ResolvedChannel resolvedChannel : resolvedChannelRegistry.getChannels(jda)) {
+            try {
+                NotificationChannel notificationChannel = resolvedChannel.getNotificationChannel();
+                GuildInformation guildInformation = resolvedChannel.getGuildInformation();
+
+                int status = notificationChannel.getStatus();
+                long subscriptions = gameEventRegistry.resolveSubscriptions(status, notificationChannel.getSubscriptions())
+                        & gameEventRegistry.getGuildMask(guildInformation.isHeadUpEnabled(),
+                        guildInformation.isEventMessageEnabled(),
+                        guildInformation.isBattlegroundsNotificationsEnabled());
+
+                // The debug message shows the settings of the guild, so debug channels are only grouped per guild.
+                NotificationGroup notificationGroup = new NotificationGroup(
+                        notificationChannel.getTimezone(),
+                        status,
+                        guildInformation.getMessageLanguage(),
+                        subscriptions,
+                        status == 128 ? resolvedChannel.getGuildID() : null);
+
+                notificationGroups.computeIfAbsent(notificationGroup, key -> key).addChannel(resolvedChannel);
+            } catch (Exception e) {
+                ClientLogger.createNewErrorLogEntry(e);
+                e.printStackTrace();
+            }
         }
 
-        if (notificationMessageBuilder.length() > 0) {
-            addMention(notificationMessageBuilder, channelID, textChannel.getGuild());
-            textChannel.sendMessage(notificationMessageBuilder.toString()).queue();
-        }
+        return notificationGroups.values();
     }
 
-
-    private void addMention(StringBuilder stringBuilder, String channelId, Guild guild) {
-        String mention;
-        String everyoneMention = "@everyone";
-        try {
-            mention = clientCache.getMentionRoleID(channelId);
-        } catch (NullPointerException exception) {
-            mention = everyoneMention;
-        }
-
-        if (mention == null) {
-            mention = everyoneMention;
+    /**
+     * @return true if the group has anything to send this minute.
+     */
+    private boolean renderNotification(NotificationGroup notificationGroup, TimeSnapshot timeSnapshot, OutboundTick outboundTick) {
+        String timezone = notificationGroup.getTimezone();
+        int minuteOfWeek = timeSnapshot.getMinuteOfWeek(timezone);
+
+        if (minuteOfWeek == -1) {
+            for (ResolvedChannel resolvedChannel : notificationGroup.getChannels()) {
+                if (!timezone.equals(invalidTimezoneWarnings.put(resolvedChannel.getChannelID(), timezone))) {
+                    sendInvalidTimezoneMessage(resolvedChannel.getTextChannel(), outboundTick);
+                }
+            }
+            return false;
         }
 
-        String hereMention = "@here";
+        long events = eventTimeline.getEventsAt(minuteOfWeek);
+        int status = notificationGroup.getStatus();
 
-        if (mention.equalsIgnoreCase(hereMention)) {
-            mention = hereMention;
-            stringBuilder.append(mention);
-            return;
+        if (events == 0 && status != 128) {
+            return false;
         }
 
-        try {
-            if (guild.getRoleById(mention) == null) {
-                mention = everyoneMention;
-            } else {
-                mention = guild.getRoleById(mention).getAsMention();
-            }
-        } catch (NumberFormatException e) {
-            mention = everyoneMention;
+        events &= notificationGroup.getSubscriptions();
+        RenderedNotification renderedNotification;
+        if (status == 128) {
+            renderedNotification = notificationRenderer.render(timeSnapshot, events, notificationGroup.getLanguage(),
+                    renderDebugMessage(notificationGroup, timeSnapshot));
+        } else if (events != 0) {
+            renderedNotification = notificationRenderer.render(timeSnapshot, events, notificationGroup.getLanguage());
+        } else {
+            return false;
         }
 
-        stringBuilder.append(mention);
-
-    }
-
-
-    private void checkShadowWithOverworldEvents(StringBuilder notificationMessageBuilder, String timezone, String language, String guildID) {
-        notificationMessageBuilder.append(ancientNightMare.checkAncientNightMare(timezone, language, guildID));
-        notificationMessageBuilder.append(demonGates.checkDemonGates(timezone, language, guildID));
-        notificationMessageBuilder.append(hauntedCarriage.checkHauntedCarriage(timezone, language, guildID));
-        notificationMessageBuilder.append(ancientArea.checkAncientArea(timezone, language, guildID));
-        notificationMessageBuilder.append(battleground.checkBattleground(timezone, language, guildID));
-        notificationMessageBuilder.append(raidVault.checkVault(timezone, language, guildID));
-        notificationMessageBuilder.append(assembly.checkAssembly(timezone, language, guildID));
-        notificationMessageBuilder.append(shadowLottery.checkShadowLottery(timezone, language, guildID));
-    }
-
-    private void checkImmortalWithOverworldEvents(StringBuilder notificationMessageBuilder, String timezone, String language, String guildID) {
-        notificationMessageBuilder.append(ancientNightMare.checkAncientNightMare(timezone, language, guildID));
-        notificationMessageBuilder.append(demonGates.checkDemonGates(timezone, language, guildID));
-        notificationMessageBuilder.append(hauntedCarriage.checkHauntedCarriage(timezone, language, guildID));
-        notificationMessageBuilder.append(ancientArea.checkAncientArea(timezone, language, guildID));
-        notificationMessageBuilder.append(battleground.checkBattleground(timezone, language, guildID));
-        notificationMessageBuilder.append(defendVault.checkDefendVault(timezone, language, guildID));
-    }
-
-    private void checkShadowEvents(StringBuilder notificationMessageBuilder, String timezone, String language, String guildID) {
-        notificationMessageBuilder.append(raidVault.checkVault(timezone, language, guildID));
-        notificationMessageBuilder.append(assembly.checkAssembly(timezone, language, guildID));
-        notificationMessageBuilder.append(shadowLottery.checkShadowLottery(timezone, language, guildID));
-        notificationMessageBuilder.append(battleground.checkBattleground(timezone, language, guildID));
-    }
-
-    private void checkImmortalEvents(StringBuilder notificationMessageBuilder, String timezone, String language, String guildID) {
-        notificationMessageBuilder.append(defendVault.checkDefendVault(timezone, language, guildID));
-        notificationMessageBuilder.append(battleground.checkBattleground(timezone, language, guildID));
-    }
-
-    private void checkOverworldEvents(StringBuilder notificationMessageBuilder, String timezone, String language, String guildID) {
-        notificationMessageBuilder.append(ancientNightMare.checkAncientNightMare(timezone, language, guildID));
-        notificationMessageBuilder.append(demonGates.checkDemonGates(timezone, language, guildID));
-        notificationMessageBuilder.append(hauntedCarriage.checkHauntedCarriage(timezone, language, guildID));
-        notificationMessageBuilder.append(ancientArea.checkAncientArea(timezone, language, guildID));
+        if (renderedNotification.isEmpty()) {
+            return false;
+        }
 
-        notificationMessageBuilder.append(battleground.checkBattleground(timezone, language, guildID));
+        notificationGroup.setNotification(renderedNotification);
+        return true;
     }
 
-    private void checkForAnyEvent(StringBuilder notificationMessageBuilder, String timezone, String language, String guildID) {
-        notificationMessageBuilder.append(raidVault.checkVault(timezone, language, guildID));
-        notificationMessageBuilder.append(battleground.checkBattleground(timezone, language, guildID));
-
-        notificationMessageBuilder.append(ancientNightMare.checkAncientNightMare(timezone, language, guildID));
-        notificationMessageBuilder.append(demonGates.checkDemonGates(timezone, language, guildID));
-        notificationMessageBuilder.append(hauntedCarriage.checkHauntedCarriage(timezone, language, guildID));
-        notificationMessageBuilder.append(ancientArea.checkAncientArea(timezone, language, guildID));
-
-        notificationMessageBuilder.append(assembly.checkAssembly(timezone, language, guildID));
-        notificationMessageBuilder.append(shadowLottery.checkShadowLottery(timezone, language, guildID));
+    private String renderDebugMessage(NotificationGroup notificationGroup, TimeSnapshot timeSnapshot) {
+        String timezone = notificationGroup.getTimezone();
+        String guildID = notificationGroup.getGuildID();
+        return "Current time: " + timeSnapshot.getTimeWithWeekday(timezone) + " in timezone " + timezone + "." +
+                "\nBattlegrounds: " + clientCache.isBattlegroundsNotificationsEnabled(guildID) +
+                "\nEvent Messages: " + clientCache.isEventMessageEnabled(guildID) +
+                "\nHeadUp Messages:" + clientCache.getHeadUpValue(guildID) + "\n";
     }
 
-    private void checkForOverworldEvents(String timezone, TextChannel textChannel) {
-        ancientArenaEmbed.checkAncientArenaFormatted(textChannel, timezone);
-        ancientNightmareEmbed.checkAncientArenaFormatted(textChannel, timezone);
-        demonGatesEmbed.checkAncientArenaFormatted(textChannel, timezone);
-        hauntedCarriageEmbed.checkAncientArenaFormatted(textChannel ,timezone);
-    }
+    private void sendNotification(NotificationGroup notificationGroup, ResolvedChannel resolvedChannel, OutboundTick outboundTick) {
+        TextChannel textChannel = resolvedChannel.getTextChannel();
+        String channelID = resolvedChannel.getChannelID();
+        String role = resolvedChannel.getNotificationChannel().getRole();
+        RenderedNotification renderedNotification = notificationGroup.getNotification();
+        int priority = OutboundMessageScheduler.getPriority(renderedNotification.isHeadUp(), role != null);
 
-    private void checkShadowWithOverworldEmbededEvents(StringBuilder notificationMessageBuilder, String timezone, String language, String guildID, TextChannel textChannel) {
-        ancientArenaEmbed.checkAncientArenaFormatted(textChannel, timezone);
-        ancientNightmareEmbed.checkAncientArenaFormatted(textChannel, timezone);
-        demonGatesEmbed.checkAncientArenaFormatted(textChannel, timezone);
-        hauntedCarriageEmbed.checkAncientArenaFormatted(textChannel ,timezone);
-        notificationMessageBuilder.append(battleground.checkBattleground(timezone, language, guildID));
-        notificationMessageBuilder.append(raidVault.checkVault(timezone, language, guildID));
-        notificationMessageBuilder.append(assembly.checkAssembly(timezone, language, guildID));
-        notificationMessageBuilder.append(shadowLottery.checkShadowLottery(timezone, language, guildID));
+        String mention = renderedNotification.hasContent() ? mentionCache.getMention(resolvedChannel) : "";
+        for (Message message : renderedNotification.compose(mention)) {
+            outboundMessageScheduler.submit(outboundTick, channelID, textChannel.sendMessage(message), priority);
+        }
     }
 
-    private void checkImmortalWithOverworldEmbededEvents(StringBuilder notificationMessageBuilder, String timezone, String language, String guildID, TextChannel textChannel) {
-        ancientArenaEmbed.checkAncientArenaFormatted(textChannel, timezone);
-        ancientNightmareEmbed.checkAncientArenaFormatted(textChannel, timezone);
-        demonGatesEmbed.checkAncientArenaFormatted(textChannel, timezone);
-        hauntedCarriageEmbed.checkAncientArenaFormatted(textChannel ,timezone);
-        notificationMessageBuilder.append(battleground.checkBattleground(timezone, language, guildID));
-        notificationMessageBuilder.append(defendVault.checkDefendVault(timezone, language, guildID));
+    private void sendInvalidTimezoneMessage(TextChannel textChannel, OutboundTick outboundTick) {
+        Guild guild = textChannel.getGuild();
+        String ownerMessage = "You're using an invalid timezone on your server " + guild.getName() +
+                ". Known working timezones are GMT, UTC and ET.";
+
+        // Members are not cached with the lean cache profile, so the owner is retrieved.
+        outboundMessageScheduler.submit(outboundTick, "owner:" + guild.getId(), guild.retrieveOwner()
+                        .flatMap(owner -> owner.getUser().openPrivateChannel())
+                        .flatMap(privateChannel -> privateChannel.sendMessage(ownerMessage)),
+                OutboundMessageScheduler.PRIORITY_WARNING);
+        outboundMessageScheduler.submit(outboundTick, textChannel.getId(),
+                textChannel.sendMessage("Unknown Timezone. Known timezones are UTC, GMT & ET."),
+                OutboundMessageScheduler.PRIORITY_WARNING);
     }
 
     private void setActivity(JDA jda) {
-        int counter = jda.getGuilds().size();
+        ShardManager shardManager = jda.getShardManager();
+        long counter = shardManager == null ? jda.getGuildCache().size() : shardManager.getGuildCache().size();
         jda.getPresence().setActivity(Activity.playing("Diablo Immortal (" + counter + ")"));
     }
 
@@ -0,0 +1,195 @@
+package me.umbreon.diabloimmortalbot.notifier;
+
+import me.umbreon.diabloimmortalbot.utils.ClientConfig;
+import me.umbreon.diabloimmortalbot.utils.ClientLogger;
+import me.umbreon.diabloimmortalbot.utils.TimeSnapshot;
+import net.dv8tion.jda.api.JDA;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Runs all {@link NotifierTask}s at the start of every wall-clock minute. The next tick is always calculated from
+ * the current time, so a slow tick never delays or shifts the following ones. A task which is still running when
+ * the next minute starts is skipped for that minute instead of piling up.
+ * <p>
+ * Shard local tasks run once per shard with that shard's {@link JDA}, every shard is scheduled, skipped and timed
+ * on its own. The shards are looked up again every tick, so shards which are still starting join once they exist.
+ */
+public class NotifierScheduler {
+
+    private static final long MILLIS_PER_MINUTE = 60 * 1000;
+
+    private final List<NotifierTask> notifierTasks;
+    private final Map<String, Long> lastTickDurations = new ConcurrentHashMap<>();
+    private final Map<String, AtomicBoolean> runningTickUnits = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService clockExecutor;
+    private final int threads;
+    private final long slowTickMillis;
+
+    private ThreadPoolExecutor tickExecutor;
+    private Supplier<? extends Collection<JDA>> shardSupplier;
+    private long lastTickMinute = -1;
+
+    public NotifierScheduler(ClientConfig clientConfig, List<NotifierTask> notifierTasks) {
+        this.notifierTasks = notifierTasks;
+        this.slowTickMillis = clientConfig.getNotifierSlowTickMillis();
+        this.clockExecutor = Executors.newSingleThreadScheduledExecutor(createThreadFactory("notifier-clock"));
+
+        this.threads = Math.max(1, clientConfig.getNotifierThreads());
+    }
+
+    /**
+     * @param shardSupplier all shards of this process, or just the one JDA when sharding is disabled.
+     */
+    public void start(Supplier<? extends Collection<JDA>> shardSupplier) {
+        this.shardSupplier = shardSupplier;
+        // The queue stays small, a tick unit is never queued again while it is still running.
+        this.tickExecutor = new ThreadPoolExecutor(threads, threads, 0, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(), createThreadFactory("notifier-tick"));
+        scheduleNextTick();
+    }
+
+    public void shutdown() {
+        clockExecutor.shutdownNow();
+        if (tickExecutor != null) {
+            tickExecutor.shutdown();
+        }
+    }
+
+    /**
+     * @return the duration of the last tick by task name, with the shard for shard local tasks.
+     */
+    public Map<String, Long> getLastTickDurations() {
+        return Collections.unmodifiableMap(lastTickDurations);
+    }
+
+    private void scheduleNextTick() {
+        long delay = MILLIS_PER_MINUTE - (System.currentTimeMillis() % MILLIS_PER_MINUTE);
+        clockExecutor.schedule(this::tick, delay, TimeUnit.MILLISECONDS);
+    }
+
+    private void tick() {
+        try {
+            long currentMinute = System.currentTimeMillis() / MILLIS_PER_MINUTE;
+
+            if (currentMinute == lastTickMinute) {
+                // Woke up slightly before the minute boundary.
+                return;
+            }
+
+            if (lastTickMinute != -1 && currentMinute - lastTickMinute > 1) {
+                ClientLogger.createNewClientLogEntry("Notifier missed " + (currentMinute - lastTickMinute - 1) + " minute(s).");
+            }
+
+            lastTickMinute = currentMinute;
+            TimeSnapshot timeSnapshot = new TimeSnapshot(Instant.ofEpochMilli(currentMinute * MILLIS_PER_MINUTE));
+
+            for (TickUnit tickUnit : createTickUnits()) {
+                submitTask(tickUnit, timeSnapshot);
+            }
+        } catch (Exception e) {
+            ClientLogger.createNewErrorLogEntry(e);
+            e.printStackTrace();
+        } finally {
+            scheduleNextTick();
+        }
+    }
+
+    private List<TickUnit> createTickUnits() {
+        List<JDA> shards = new ArrayList<>(shardSupplier.get());
+        if (shards.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        shards.sort((first, second) -> Integer.compare(first.getShardInfo().getShardId(), second.getShardInfo().getShardId()));
+        boolean sharded = shards.size() > 1 || shards.get(0).getShardInfo().getShardTotal() > 1;
+        List<TickUnit> tickUnits = new ArrayList<>();
+        for (NotifierTask notifierTask : notifierTasks) {
+            if (notifierTask.isShardLocal()) {
+                for (JDA shard : shards) {
+                    tickUnits.add(createTickUnit(notifierTask, shard, notifierTask.getName() + " " + shard.getShardInfo().getShardString(), sharded));
+                }
+            } else {
+                tickUnits.add(createTickUnit(notifierTask, shards.get(0), notifierTask.getName(), sharded));
+            }
+        }
+        return tickUnits;
+    }
+
+    private TickUnit createTickUnit(NotifierTask notifierTask, JDA jda, String name, boolean sharded) {
+        AtomicBoolean running = runningTickUnits.computeIfAbsent(name, key -> new AtomicBoolean(false));
+        return new TickUnit(notifierTask, jda, name, running, sharded && notifierTask.isShardLocal());
+    }
+
+    private void submitTask(TickUnit tickUnit, TimeSnapshot timeSnapshot) {
+        if (!tickUnit.running.compareAndSet(false, true)) {
+            ClientLogger.createNewClientLogEntry(tickUnit.name + " is still running. Skipped this minute.");
+            return;
+        }
+
+        try {
+            tickExecutor.execute(() -> runTask(tickUnit, timeSnapshot));
+        } catch (RejectedExecutionException e) {
+            tickUnit.running.set(false);
+            ClientLogger.createNewErrorLogEntry(e);
+        }
+    }
+
+    private void runTask(TickUnit tickUnit, TimeSnapshot timeSnapshot) {
+        long start = System.nanoTime();
+        try {
+            tickUnit.notifierTask.runTick(tickUnit.jda, timeSnapshot);
+        } catch (Exception e) {
+            ClientLogger.createNewErrorLogEntry(e);
+            e.printStackTrace();
+        } finally {
+            long duration = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+            lastTickDurations.put(tickUnit.name, duration);
+            tickUnit.running.set(false);
+
+            // Sharded ticks are always reported, to compare the shards with each other.
+            if (duration > slowTickMillis || tickUnit.alwaysReported) {
+                ClientLogger.createNewClientLogEntry(tickUnit.name + " tick took " + duration + "ms.");
+            }
+        }
+    }
+
+    /**
+     * A task together with the shard it runs on.
+     */
+    private static class TickUnit {
+
+        private final NotifierTask notifierTask;
+        private final JDA jda;
+        private final String name;
+        // Shared by all tick units with the same name, so a unit is skipped while its previous tick still runs.
+        private final AtomicBoolean running;
+        private final boolean alwaysReported;
+
+        private TickUnit(NotifierTask notifierTask, JDA jda, String name, AtomicBoolean running, boolean alwaysReported) {
+            this.notifierTask = notifierTask;
+            this.jda = jda;
+            this.name = name;
+            this.running = running;
+            this.alwaysReported = alwaysReported;
+        }
+    }
+
+    private ThreadFactory createThreadFactory(String name) {
+        AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, name + "-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
@@ -0,0 +1,26 @@
+package me.umbreon.diabloimmortalbot.notifier;
+
+import me.umbreon.diabloimmortalbot.utils.TimeSnapshot;
+import net.dv8tion.jda.api.JDA;
+
+/**
+ * A pass which is run by the {@link NotifierScheduler} once at the start of every minute.
+ * All tasks of the same tick share one {@link TimeSnapshot}.
+ */
+public interface NotifierTask {
+
+    String getName();
+
+    /**
+     * @param jda the shard to run on for shard local tasks, otherwise any shard of this process.
+     */
+    void runTick(JDA jda, TimeSnapshot timeSnapshot);
+
+    /**
+     * @return true if the task only handles the guilds of the given shard and runs once per shard.
+     */
+    default boolean isShardLocal() {
+        return false;
+    }
+
+}
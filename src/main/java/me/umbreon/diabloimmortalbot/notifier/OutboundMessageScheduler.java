@@ -0,0 +1,219 @@
+package me.umbreon.diabloimmortalbot.notifier;
+
+import me.umbreon.diabloimmortalbot.utils.ClientConfig;
+import me.umbreon.diabloimmortalbot.utils.ClientLogger;
+import me.umbreon.diabloimmortalbot.utils.TimeSnapshot;
+import net.dv8tion.jda.api.requests.RestAction;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Owns all notification sends. Messages are released by a single thread in priority order (head ups before events,
+ * channels with a registered role before the rest) while staying within a global budget and a budget per channel,
+ * so a burst is spread evenly instead of piling up in JDA's rate limit buckets. A channel which is out of budget
+ * does not hold back the others. A backlog is drained across ticks, messages are only dropped once they are older
+ * than OUTBOUND_MAX_AGE_MILLIS, by then the events they announce have started.
+ */
+public class OutboundMessageScheduler {
+
+    public static final int PRIORITY_CUSTOM_MESSAGE = 4;
+    public static final int PRIORITY_WARNING = 5;
+
+    private static final long BUCKET_CLEANUP_INTERVAL_NANOS = TimeUnit.MINUTES.toNanos(1);
+
+    private final long maxAgeMillis;
+    private final int channelBurst;
+    private final long channelPeriodMillis;
+    private final TokenBucket globalBucket;
+    private final Map<String, TokenBucket> channelBuckets = new HashMap<>();
+
+    private final Object lock = new Object();
+    private final PriorityQueue<OutboundMessage> readyMessages = new PriorityQueue<>(
+            Comparator.comparingInt((OutboundMessage message) -> message.priority).thenComparingLong(message -> message.sequence));
+    private final PriorityQueue<OutboundMessage> throttledMessages = new PriorityQueue<>(
+            Comparator.comparingLong((OutboundMessage message) -> message.readyAt).thenComparingLong(message -> message.sequence));
+    private long nextSequence;
+    private long lastBucketCleanup = System.nanoTime();
+
+    private volatile boolean running;
+    private Thread senderThread;
+
+    public OutboundMessageScheduler(ClientConfig clientConfig) {
+        this.maxAgeMillis = clientConfig.getOutboundMaxAgeMillis();
+        this.channelBurst = Math.max(1, clientConfig.getOutboundChannelBurst());
+        this.channelPeriodMillis = Math.max(1, clientConfig.getOutboundChannelPeriodMillis());
+        this.globalBucket = new TokenBucket(Math.max(1, clientConfig.getOutboundGlobalPerSecond()), 1000, System.nanoTime());
+    }
+
+    /**
+     * @param headUp   the message contains a head up.
+     * @param rolePing the channel mentions a role registered with >role.
+     */
+    public static int getPriority(boolean headUp, boolean rolePing) {
+        return (headUp ? 0 : 2) + (rolePing ? 0 : 1);
+    }
+
+    public void start() {
+        running = true;
+        senderThread = new Thread(this::sendMessages, "outbound-sender");
+        senderThread.setDaemon(true);
+        senderThread.start();
+    }
+
+    public void shutdown() {
+        running = false;
+        synchronized (lock) {
+            lock.notifyAll();
+        }
+    }
+
+    /**
+     * Messages of the tick which could not be sent within OUTBOUND_MAX_AGE_MILLIS are dropped.
+     */
+    public OutboundTick beginTick(String name, TimeSnapshot timeSnapshot) {
+        int backlog;
+        synchronized (lock) {
+            backlog = readyMessages.size() + throttledMessages.size();
+        }
+        if (backlog > 0) {
+            ClientLogger.createNewClientLogEntry(name + " starts with " + backlog + " message(s) still queued.");
+        }
+
+        long tickStartMillis = timeSnapshot.getInstant().toEpochMilli();
+        return new OutboundTick(name, tickStartMillis, tickStartMillis + maxAgeMillis);
+    }
+
+    public void submit(OutboundTick outboundTick, String channelID, RestAction<?> restAction, int priority) {
+        submit(outboundTick, channelID, restAction, priority, null);
+    }
+
+    /**
+     * @param onSent run once Discord accepted the message, may be null.
+     */
+    public void submit(OutboundTick outboundTick, String channelID, RestAction<?> restAction, int priority, Runnable onSent) {
+        outboundTick.onSubmitted();
+        synchronized (lock) {
+            readyMessages.add(new OutboundMessage(channelID, restAction, priority, nextSequence++, outboundTick, onSent));
+            lock.notifyAll();
+        }
+    }
+
+    private void sendMessages() {
+        while (running) {
+            try {
+                OutboundMessage outboundMessage = takeNextMessage();
+                if (outboundMessage == null) {
+                    continue;
+                }
+
+                if (System.currentTimeMillis() > outboundMessage.outboundTick.getStaleAtMillis()) {
+                    outboundMessage.outboundTick.onExpired();
+                    continue;
+                }
+
+                long now = System.nanoTime();
+                TokenBucket channelBucket = channelBuckets.computeIfAbsent(outboundMessage.channelID,
+                        key -> new TokenBucket(channelBurst, channelPeriodMillis, now));
+                if (!channelBucket.tryAcquire(now)) {
+                    throttle(outboundMessage, now + channelBucket.nanosUntilAvailable(now));
+                    continue;
+                }
+
+                awaitGlobalBudget();
+                send(outboundMessage);
+                cleanupBuckets();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                ClientLogger.createNewErrorLogEntry(e);
+                e.printStackTrace();
+            }
+        }
+    }
+
+    /**
+     * @return the ready message with the highest priority or null if the scheduler was stopped.
+     */
+    private OutboundMessage takeNextMessage() throws InterruptedException {
+        synchronized (lock) {
+            while (running) {
+                long now = System.nanoTime();
+                while (!throttledMessages.isEmpty() && throttledMessages.peek().readyAt <= now) {
+                    readyMessages.add(throttledMessages.poll());
+                }
+
+                if (!readyMessages.isEmpty()) {
+                    return readyMessages.poll();
+                }
+
+                if (throttledMessages.isEmpty()) {
+                    lock.wait();
+                } else {
+                    TimeUnit.NANOSECONDS.timedWait(lock, throttledMessages.peek().readyAt - now);
+                }
+            }
+            return null;
+        }
+    }
+
+    private void throttle(OutboundMessage outboundMessage, long readyAt) {
+        synchronized (lock) {
+            outboundMessage.readyAt = readyAt;
+            throttledMessages.add(outboundMessage);
+        }
+    }
+
+    private void awaitGlobalBudget() throws InterruptedException {
+        while (!globalBucket.tryAcquire(System.nanoTime())) {
+            TimeUnit.NANOSECONDS.sleep(globalBucket.nanosUntilAvailable(System.nanoTime()));
+        }
+    }
+
+    private void send(OutboundMessage outboundMessage) {
+        OutboundTick outboundTick = outboundMessage.outboundTick;
+        outboundMessage.restAction.queue(success -> {
+            outboundTick.onSent();
+            if (outboundMessage.onSent != null) {
+                outboundMessage.onSent.run();
+            }
+        }, failure -> {
+            outboundTick.onFailed();
+            ClientLogger.createNewClientLogEntry("Failed to send notification to " + outboundMessage.channelID + ": " + failure.getMessage());
+        });
+    }
+
+    private void cleanupBuckets() {
+        long now = System.nanoTime();
+        if (now - lastBucketCleanup < BUCKET_CLEANUP_INTERVAL_NANOS) {
+            return;
+        }
+        lastBucketCleanup = now;
+        channelBuckets.values().removeIf(tokenBucket -> tokenBucket.isFull(now));
+    }
+
+    private static class OutboundMessage {
+
+        private final String channelID;
+        private final RestAction<?> restAction;
+        private final int priority;
+        private final long sequence;
+        private final OutboundTick outboundTick;
+        private final Runnable onSent;
+        private long readyAt;
+
+        private OutboundMessage(String channelID, RestAction<?> restAction, int priority, long sequence, OutboundTick outboundTick,
+                                Runnable onSent) {
+            this.channelID = channelID;
+            this.restAction = restAction;
+            this.priority = priority;
+            this.sequence = sequence;
+            this.outboundTick = outboundTick;
+            this.onSent = onSent;
+        }
+    }
+}
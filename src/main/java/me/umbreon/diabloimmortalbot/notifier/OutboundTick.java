@@ -0,0 +1,100 @@
+package me.umbreon.diabloimmortalbot.notifier;
+
+import me.umbreon.diabloimmortalbot.utils.ClientLogger;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * All outbound messages of one notifier tick. Once the tick is sealed and every message was sent, failed or expired,
+ * the send latency percentiles are logged. Latency is measured from the start of the minute.
+ */
+public class OutboundTick {
+
+    private final String name;
+    private final long tickStartMillis;
+    private final long staleAtMillis;
+
+    private final AtomicInteger submitted = new AtomicInteger();
+    private final AtomicInteger finished = new AtomicInteger();
+    private final AtomicInteger failed = new AtomicInteger();
+    private final AtomicInteger expired = new AtomicInteger();
+    private final List<Long> latencies = Collections.synchronizedList(new ArrayList<>());
+    private final AtomicBoolean reported = new AtomicBoolean();
+    private volatile boolean sealed;
+
+    OutboundTick(String name, long tickStartMillis, long staleAtMillis) {
+        this.name = name;
+        this.tickStartMillis = tickStartMillis;
+        this.staleAtMillis = staleAtMillis;
+    }
+
+    /**
+     * No more messages will be submitted for this tick.
+     */
+    public void seal() {
+        sealed = true;
+        reportIfFinished();
+    }
+
+    long getStaleAtMillis() {
+        return staleAtMillis;
+    }
+
+    void onSubmitted() {
+        submitted.incrementAndGet();
+    }
+
+    void onSent() {
+        latencies.add(System.currentTimeMillis() - tickStartMillis);
+        onFinished();
+    }
+
+    void onFailed() {
+        failed.incrementAndGet();
+        onFinished();
+    }
+
+    void onExpired() {
+        expired.incrementAndGet();
+        onFinished();
+    }
+
+    private void onFinished() {
+        finished.incrementAndGet();
+        reportIfFinished();
+    }
+
+    private void reportIfFinished() {
+        if (!sealed || finished.get() != submitted.get() || submitted.get() == 0) {
+            return;
+        }
+
+        if (!reported.compareAndSet(false, true)) {
+            return;
+        }
+
+        List<Long> sortedLatencies;
+        synchronized (latencies) {
+            sortedLatencies = new ArrayList<>(latencies);
+        }
+        Collections.sort(sortedLatencies);
+
+        ClientLogger.createNewClientLogEntry(name + " sent " + sortedLatencies.size() + " message(s)" +
+                ", p50=" + getPercentile(sortedLatencies, 0.50) + "ms" +
+                ", p95=" + getPercentile(sortedLatencies, 0.95) + "ms" +
+                ", p99=" + getPercentile(sortedLatencies, 0.99) + "ms" +
+                ", failed=" + failed.get() + ", expired=" + expired.get());
+    }
+
+    private long getPercentile(List<Long> sortedLatencies, double percentile) {
+        if (sortedLatencies.isEmpty()) {
+            return 0;
+        }
+        int index = (int) Math.ceil(percentile * sortedLatencies.size()) - 1;
+        return sortedLatencies.get(Math.max(0, index));
+    }
+}
@@ -0,0 +1,64 @@
+package me.umbreon.diabloimmortalbot.notifier;
+
+import net.dv8tion.jda.api.entities.Message;
+import net.dv8tion.jda.api.entities.MessageEmbed;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * The messages of a notification, shared by every channel which receives it. Only the message carrying the mention
+ * is built per channel.
+ */
+public class RenderedNotification {
+
+    private final Message[] messages;
+    private final int mentionIndex;
+    private final String mentionContent;
+    private final List<MessageEmbed> mentionEmbeds;
+    private final boolean headUp;
+
+    /**
+     * @param messages     the messages, with null at the mention index.
+     * @param mentionIndex the message the mention is appended to, or -1 if there is no content to mention.
+     */
+    RenderedNotification(Message[] messages, int mentionIndex, String mentionContent, List<MessageEmbed> mentionEmbeds, boolean headUp) {
+        this.messages = messages;
+        this.mentionIndex = mentionIndex;
+        this.mentionContent = mentionContent;
+        this.mentionEmbeds = mentionEmbeds;
+        this.headUp = headUp;
+    }
+
+    public boolean isEmpty() {
+        return messages.length == 0;
+    }
+
+    /**
+     * @return true if the notification has content, only then a channel's mention is appended.
+     */
+    public boolean hasContent() {
+        return mentionIndex != -1;
+    }
+
+    /**
+     * @return true if the notification contains a head up.
+     */
+    public boolean isHeadUp() {
+        return headUp;
+    }
+
+    /**
+     * @param mention ignored if the notification has no content.
+     */
+    public List<Message> compose(String mention) {
+        if (mentionIndex == -1) {
+            return Collections.unmodifiableList(Arrays.asList(messages));
+        }
+
+        Message[] channelMessages = messages.clone();
+        channelMessages[mentionIndex] = NotificationComposer.build(mentionContent + mention, mentionEmbeds);
+        return Arrays.asList(channelMessages);
+    }
+}
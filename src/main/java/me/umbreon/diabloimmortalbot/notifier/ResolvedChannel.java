@@ -0,0 +1,52 @@
+package me.umbreon.diabloimmortalbot.notifier;
+
+import me.umbreon.diabloimmortalbot.data.GuildInformation;
+import me.umbreon.diabloimmortalbot.data.NotificationChannel;
+import net.dv8tion.jda.api.entities.TextChannel;
+
+/**
+ * A registered channel joined with its JDA handle and the settings of its guild. Commands change the settings
+ * objects in place, so a record only has to be replaced when the channel or its settings objects are replaced.
+ */
+public class ResolvedChannel {
+
+    private final TextChannel textChannel;
+    private final String channelID;
+    private final String guildID;
+    private final int shardID;
+    private final NotificationChannel notificationChannel;
+    private final GuildInformation guildInformation;
+
+    public ResolvedChannel(TextChannel textChannel, NotificationChannel notificationChannel, GuildInformation guildInformation) {
+        this.textChannel = textChannel;
+        this.channelID = textChannel.getId();
+        this.guildID = textChannel.getGuild().getId();
+        this.shardID = textChannel.getJDA().getShardInfo().getShardId();
+        this.notificationChannel = notificationChannel;
+        this.guildInformation = guildInformation;
+    }
+
+    public TextChannel getTextChannel() {
+        return textChannel;
+    }
+
+    public String getChannelID() {
+        return channelID;
+    }
+
+    public String getGuildID() {
+        return guildID;
+    }
+
+    public int getShardID() {
+        return shardID;
+    }
+
+    public NotificationChannel getNotificationChannel() {
+        return notificationChannel;
+    }
+
+    public GuildInformation getGuildInformation() {
+        return guildInformation;
+    }
+}
@@ -0,0 +1,239 @@
+package me.umbreon.diabloimmortalbot.notifier;
+
+import me.umbreon.diabloimmortalbot.data.GuildInformation;
+import me.umbreon.diabloimmortalbot.data.NotificationChannel;
+import me.umbreon.diabloimmortalbot.database.DatabaseRequests;
+import me.umbreon.diabloimmortalbot.utils.ClientCache;
+import net.dv8tion.jda.api.JDA;
+import net.dv8tion.jda.api.entities.ChannelType;
+import net.dv8tion.jda.api.entities.Guild;
+import net.dv8tion.jda.api.entities.TextChannel;
+import net.dv8tion.jda.api.events.ReconnectedEvent;
+import net.dv8tion.jda.api.events.channel.ChannelCreateEvent;
+import net.dv8tion.jda.api.events.channel.ChannelDeleteEvent;
+import net.dv8tion.jda.api.events.guild.*;
+import net.dv8tion.jda.api.hooks.ListenerAdapter;
+
+import java.util.*;
+import java.util.function.Supplier;
+
+/**
+ * All registered channels whose guild is loaded, resolved to {@link ResolvedChannel}s. Guild and channel events and
+ * changes to the {@link ClientCache} keep the registry in sync, so a tick only iterates the ready-made records of
+ * its shard instead of looking every channel up again.
+ */
+public class ResolvedChannelRegistry extends ListenerAdapter implements ClientCache.ChangeListener {
+
+    private static final ResolvedChannel[] NO_CHANNELS = new ResolvedChannel[0];
+
+    private final ClientCache clientCache;
+    private final DatabaseRequests databaseRequests;
+
+    private final Map<String, ResolvedChannel> resolvedChannels = new HashMap<>();
+    // Registered channels whose guild is not loaded (yet), they are resolved by the guild events.
+    private final Set<String> unresolvedChannelIDs = new HashSet<>();
+    // The records of every shard, dropped on every change and built again by the next tick.
+    private final Map<Integer, ResolvedChannel[]> snapshots = new HashMap<>();
+    private Supplier<? extends Collection<JDA>> shardSupplier = Collections::emptyList;
+
+    /**
+     * Has to be created after the caches are loaded.
+     */
+    public ResolvedChannelRegistry(ClientCache clientCache, DatabaseRequests databaseRequests) {
+        this.clientCache = clientCache;
+        this.databaseRequests = databaseRequests;
+        this.unresolvedChannelIDs.addAll(clientCache.getListWithNotificationChannels().keySet());
+        clientCache.addChangeListener(this);
+    }
+
+    /**
+     * Resolves the channels of all guilds loaded so far, guilds loaded later are resolved by their events.
+     */
+    public synchronized void start(Supplier<? extends Collection<JDA>> shardSupplier) {
+        this.shardSupplier = shardSupplier;
+        for (String channelID : new ArrayList<>(unresolvedChannelIDs)) {
+            resolve(channelID);
+        }
+    }
+
+    /**
+     * @return the channels of the shard. The array must not be modified.
+     */
+    public synchronized ResolvedChannel[] getChannels(JDA jda) {
+        int shardID = jda.getShardInfo().getShardId();
+        ResolvedChannel[] snapshot = snapshots.get(shardID);
+        if (snapshot == null) {
+            List<ResolvedChannel> channels = new ArrayList<>();
+            for (ResolvedChannel resolvedChannel : resolvedChannels.values()) {
+                if (resolvedChannel.getShardID() == shardID) {
+                    channels.add(resolvedChannel);
+                }
+            }
+            snapshot = channels.toArray(NO_CHANNELS);
+            snapshots.put(shardID, snapshot);
+        }
+        return snapshot;
+    }
+
+    /**
+     * @return the channel or null if it is not registered or its guild is not loaded.
+     */
+    public synchronized ResolvedChannel getChannel(String channelID) {
+        return resolvedChannels.get(channelID);
+    }
+
+    @Override
+    public synchronized void onNotificationChannelChanged(String channelID) {
+        resolve(channelID);
+    }
+
+    @Override
+    public synchronized void onGuildInformationChanged(String guildID) {
+        List<ResolvedChannel> guildChannels = new ArrayList<>();
+        for (ResolvedChannel resolvedChannel : resolvedChannels.values()) {
+            if (resolvedChannel.getGuildID().equals(guildID)) {
+                guildChannels.add(resolvedChannel);
+            }
+        }
+        guildChannels.forEach(resolvedChannel -> resolve(resolvedChannel.getTextChannel()));
+    }
+
+    @Override
+    public void onGuildReady(GuildReadyEvent event) {
+        resolveGuild(event.getGuild());
+    }
+
+    @Override
+    public void onGuildJoin(GuildJoinEvent event) {
+        resolveGuild(event.getGuild());
+    }
+
+    @Override
+    public void onGuildAvailable(GuildAvailableEvent event) {
+        resolveGuild(event.getGuild());
+    }
+
+    @Override
+    public void onGuildLeave(GuildLeaveEvent event) {
+        unresolveGuild(event.getGuild().getId());
+    }
+
+    @Override
+    public void onGuildUnavailable(GuildUnavailableEvent event) {
+        unresolveGuild(event.getGuild().getId());
+    }
+
+    @Override
+    public synchronized void onChannelCreate(ChannelCreateEvent event) {
+        if (event.isFromType(ChannelType.TEXT) && clientCache.doNotificationChannelExists(event.getChannel().getId())) {
+            resolve((TextChannel) event.getChannel());
+        }
+    }
+
+    @Override
+    public synchronized void onChannelDelete(ChannelDeleteEvent event) {
+        if (event.isFromType(ChannelType.TEXT)) {
+            unresolve(event.getChannel().getId());
+        }
+    }
+
+    /**
+     * A shard which could not resume its session comes back with new entities, the old handles are stale.
+     */
+    @Override
+    public synchronized void onReconnected(ReconnectedEvent event) {
+        int shardID = event.getJDA().getShardInfo().getShardId();
+        List<String> shardChannelIDs = new ArrayList<>();
+        for (ResolvedChannel resolvedChannel : resolvedChannels.values()) {
+            if (resolvedChannel.getShardID() == shardID) {
+                shardChannelIDs.add(resolvedChannel.getChannelID());
+            }
+        }
+        shardChannelIDs.forEach(this::unresolve);
+        event.getJDA().getGuilds().forEach(this::resolveGuild);
+    }
+
+    private synchronized void resolveGuild(Guild guild) {
+        for (TextChannel textChannel : guild.getTextChannels()) {
+            if (clientCache.doNotificationChannelExists(textChannel.getId())) {
+                resolve(textChannel);
+            }
+        }
+    }
+
+    private synchronized void unresolveGuild(String guildID) {
+        List<String> guildChannelIDs = new ArrayList<>();
+        for (ResolvedChannel resolvedChannel : resolvedChannels.values()) {
+            if (resolvedChannel.getGuildID().equals(guildID)) {
+                guildChannelIDs.add(resolvedChannel.getChannelID());
+            }
+        }
+        guildChannelIDs.forEach(this::unresolve);
+    }
+
+    private void resolve(String channelID) {
+        if (!clientCache.doNotificationChannelExists(channelID)) {
+            remove(channelID);
+            return;
+        }
+
+        ResolvedChannel resolvedChannel = resolvedChannels.get(channelID);
+        TextChannel textChannel = resolvedChannel == null ? findTextChannel(channelID) : resolvedChannel.getTextChannel();
+        if (textChannel == null) {
+            unresolvedChannelIDs.add(channelID);
+            return;
+        }
+        resolve(textChannel);
+    }
+
+    private void resolve(TextChannel textChannel) {
+        String channelID = textChannel.getId();
+        NotificationChannel notificationChannel = clientCache.getNotificationChannel(channelID);
+        if (notificationChannel == null) {
+            remove(channelID);
+            return;
+        }
+
+        GuildInformation guildInformation = getOrRegisterGuild(textChannel.getGuild().getId());
+        resolvedChannels.put(channelID, new ResolvedChannel(textChannel, notificationChannel, guildInformation));
+        unresolvedChannelIDs.remove(channelID);
+        snapshots.clear();
+    }
+
+    /**
+     * The channel stays registered and is resolved again once its guild is loaded.
+     */
+    private void unresolve(String channelID) {
+        remove(channelID);
+        if (clientCache.doNotificationChannelExists(channelID)) {
+            unresolvedChannelIDs.add(channelID);
+        }
+    }
+
+    private void remove(String channelID) {
+        unresolvedChannelIDs.remove(channelID);
+        if (resolvedChannels.remove(channelID) != null) {
+            snapshots.clear();
+        }
+    }
+
+    private TextChannel findTextChannel(String channelID) {
+        for (JDA jda : shardSupplier.get()) {
+            TextChannel textChannel = jda.getTextChannelById(channelID);
+            if (textChannel != null) {
+                return textChannel;
+            }
+        }
+        return null;
+    }
+
+    private GuildInformation getOrRegisterGuild(String guildID) {
+        GuildInformation guildInformation = clientCache.getGuildInformation(guildID);
+        if (guildInformation == null) {
+            guildInformation = new GuildInformation(guildID, "ENG", true, true, true);
+            databaseRequests.createNewGuildEntry(guildInformation);
+            clientCache.addGuildInformation(guildInformation);
+        }
+        return guildInformation;
+    }
+}
@@ -0,0 +1,48 @@
+package me.umbreon.diabloimmortalbot.notifier;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Allows {@code capacity} sends per {@code period}, refilled continuously. Not thread-safe.
+ */
+class TokenBucket {
+
+    private final double capacity;
+    private final double tokensPerNano;
+    private double tokens;
+    private long lastRefill;
+
+    TokenBucket(int capacity, long periodMillis, long now) {
+        this.capacity = capacity;
+        this.tokensPerNano = capacity / (double) TimeUnit.MILLISECONDS.toNanos(periodMillis);
+        this.tokens = capacity;
+        this.lastRefill = now;
+    }
+
+    boolean tryAcquire(long now) {
+        refill(now);
+        if (tokens < 1) {
+            return false;
+        }
+        tokens--;
+        return true;
+    }
+
+    /**
+     * @return nanoseconds until the next token is available, 0 if one is available now.
+     */
+    long nanosUntilAvailable(long now) {
+        refill(now);
+        return tokens >= 1 ? 0 : (long) Math.ceil((1 - tokens) / tokensPerNano);
+    }
+
+    boolean isFull(long now) {
+        refill(now);
+        return tokens >= capacity;
+    }
+
+    private void refill(long now) {
+        tokens = Math.min(capacity, tokens + (now - lastRefill) * tokensPerNano);
+        lastRefill = now;
+    }
+}
@@ -4,13 +4,37 @@ import me.umbreon.diabloimmortalbot.data.CustomMessage;
 import me.umbreon.diabloimmortalbot.data.GuildInformation;
 import me.umbreon.diabloimmortalbot.data.NotificationChannel;
 
-import java.util.ArrayList;
+import java.time.Instant;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 public class ClientCache {
 
+    // CHANGE LISTENERS
+
+    /**
+     * Notified whenever a notification channel or guild is added, replaced or deleted. Changes of single settings
+     * are made in place and not notified, except for the role of a channel.
+     */
+    public interface ChangeListener {
+
+        void onNotificationChannelChanged(String channelID);
+
+        void onGuildInformationChanged(String guildID);
+
+        default void onRoleChanged(String channelID) {
+        }
+    }
+
+    private final List<ChangeListener> changeListeners = new CopyOnWriteArrayList<>();
+
+    public void addChangeListener(ChangeListener changeListener) {
+        changeListeners.add(changeListener);
+    }
+
     // NOTIFICATIONS CHANNELS CACHE
 
     private Map<String, NotificationChannel> listWithNotificationChannels;
@@ -23,10 +47,21 @@ public class ClientCache {
         return listWithNotificationChannels;
     }
 
+    /**
+     * @return the channel or null if it is not registered.
+     */
+    public NotificationChannel getNotificationChannel(String channelId) {
+        return listWithNotificationChannels.get(channelId);
+    }
+
     public int getStatus(String channelId) {
         return listWithNotificationChannels.get(channelId).getStatus();
     }
 
+    public long getSubscriptions(String channelId) {
+        return listWithNotificationChannels.get(channelId).getSubscriptions();
+    }
+
     public String getTimezone(String channelId) {
         return listWithNotificationChannels.get(channelId).getTimezone();
     }
@@ -40,22 +75,50 @@ public class ClientCache {
     }
 
     public void addNotificationChannel(NotificationChannel notificationChannel) {
+        putNotificationChannel(notificationChannel);
+        notifyNotificationChannelChanged(notificationChannel.channelId);
+    }
+
+    /**
+     * Replaces the channel without notifying anyone, for callers holding a lock the listeners must not wait for.
+     * They call {@link #notifyNotificationChannelChanged(String)} once they released it.
+     */
+    public void putNotificationChannel(NotificationChannel notificationChannel) {
         listWithNotificationChannels.put(notificationChannel.channelId, notificationChannel);
     }
 
+    public void notifyNotificationChannelChanged(String channelID) {
+        customMessageStore.reindexChannel(channelID);
+        changeListeners.forEach(changeListener -> changeListener.onNotificationChannelChanged(channelID));
+    }
+
     public void setRole(String channelID, String roleID) {
         listWithNotificationChannels.get(channelID).setRole(roleID);
+        changeListeners.forEach(changeListener -> changeListener.onRoleChanged(channelID));
     }
 
     public void setStatus(String channelID, int status) {
         listWithNotificationChannels.get(channelID).setStatus(status);
     }
 
+    public void setSubscriptions(String channelID, long subscriptions) {
+        listWithNotificationChannels.get(channelID).setSubscriptions(subscriptions);
+    }
+
     public void setTimezone(String channelID, String timezone) {
         listWithNotificationChannels.get(channelID).setTimezone(timezone);
+        customMessageStore.reindexChannel(channelID);
     }
 
     public void deleteNotificationChannel(String channelID) {
+        removeNotificationChannel(channelID);
+        notifyNotificationChannelChanged(channelID);
+    }
+
+    /**
+     * Like {@link #putNotificationChannel(NotificationChannel)}.
+     */
+    public void removeNotificationChannel(String channelID) {
         listWithNotificationChannels.remove(channelID);
     }
 
@@ -67,6 +130,13 @@ public class ClientCache {
         this.listWithGuildInformation = listWithGuildInformation;
     }
 
+    /**
+     * @return the guild or null if it is not registered.
+     */
+    public GuildInformation getGuildInformation(String guildID) {
+        return listWithGuildInformation.get(guildID);
+    }
+
     public String getLanguage(String guildID) {
         String language;
         try {
@@ -81,14 +151,42 @@ public class ClientCache {
         listWithGuildInformation.get(guildID).setLanguage(language);
     }
 
+    public Set<String> getGuildIDs() {
+        return listWithGuildInformation.keySet();
+    }
+
     public boolean doGuildExists(String guildID) {
         return listWithGuildInformation.containsKey(guildID);
     }
 
     public void addGuildInformation(GuildInformation guildInformation) {
+        putGuildInformation(guildInformation);
+        notifyGuildInformationChanged(guildInformation.getGuildID());
+    }
+
+    public void deleteGuildInformation(String guildID) {
+        removeGuildInformation(guildID);
+        notifyGuildInformationChanged(guildID);
+    }
+
+    /**
+     * Like {@link #putNotificationChannel(NotificationChannel)}.
+     */
+    public void putGuildInformation(GuildInformation guildInformation) {
         this.listWithGuildInformation.put(guildInformation.getGuildID(), guildInformation);
     }
 
+    /**
+     * Like {@link #putNotificationChannel(NotificationChannel)}.
+     */
+    public void removeGuildInformation(String guildID) {
+        this.listWithGuildInformation.remove(guildID);
+    }
+
+    public void notifyGuildInformationChanged(String guildID) {
+        changeListeners.forEach(changeListener -> changeListener.onGuildInformationChanged(guildID));
+    }
+
     public boolean getHeadUpValue(String guildID) {
         return listWithGuildInformation.get(guildID).isHeadUpEnabled();
     }
@@ -117,38 +215,46 @@ public class ClientCache {
 
     // CUSTOM MESSAGES CACHE
 
-    public Map<String, CustomMessage> customMessagesList;
+    private final CustomMessageStore customMessageStore = new CustomMessageStore(this::getTimezoneIfRegistered);
 
-    public void setCustomMessagesList(Map<String, CustomMessage> customMessagesList) {
-        this.customMessagesList = customMessagesList;
+    public void setCustomMessagesList(Map<Integer, CustomMessage> customMessagesList) {
+        customMessageStore.setAll(customMessagesList.values());
+    }
+
+    /**
+     * @return the message or null if there is none with this id.
+     */
+    public CustomMessage getCustomMessage(int customMessageID) {
+        return customMessageStore.get(customMessageID);
     }
 
     public void deleteCustomMessageByID(int customMessageID) {
-        customMessagesList.forEach((key, customMessage) -> {
-            if (customMessage.getCustomMessageID() == customMessageID) {
-                customMessagesList.remove(key);
-            }
-        });
+        customMessageStore.remove(customMessageID);
     }
 
     public List<CustomMessage> getAllCustomMessagesByGuildID(String guildID) {
-        List<CustomMessage> guildCustomMessagesList = new ArrayList<>();
-
-        customMessagesList.forEach((key, customMessage) -> {
-            if (customMessage.getGuildID().equals(guildID)) {
-                guildCustomMessagesList.add(customMessage);
-            }
-        });
-
-        return guildCustomMessagesList;
+        return customMessageStore.getByGuild(guildID);
     }
 
     public Collection<CustomMessage> getAllCustomMessages() {
-        return this.customMessagesList.values();
+        return customMessageStore.getAll();
     }
 
     public void addCustomMessageToList(CustomMessage customMessage) {
-        this.customMessagesList.put(customMessage.getGuildID(), customMessage);
+        customMessageStore.add(customMessage);
+    }
+
+    /**
+     * @return the custom messages due in the minute of {@code now}. They are already scheduled for their next
+     * occurrence.
+     */
+    public List<CustomMessage> pollDueCustomMessages(Instant now) {
+        return customMessageStore.pollDue(now);
+    }
+
+    private String getTimezoneIfRegistered(String channelID) {
+        NotificationChannel notificationChannel = listWithNotificationChannels.get(channelID);
+        return notificationChannel == null ? null : notificationChannel.getTimezone();
     }
 
 }
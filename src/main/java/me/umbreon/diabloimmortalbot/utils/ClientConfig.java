@@ -14,6 +14,34 @@ public class ClientConfig {
     private String port;
     private String token;
     private String logFolderPath;
+    private int logMaxFileSizeMegabytes;
+    private int notifierThreads;
+    private long notifierSlowTickMillis;
+    private boolean databasePoolEnabled;
+    private int databasePoolMinIdle;
+    private int databasePoolMaxSize;
+    private long databasePoolValidationTimeoutMillis;
+    private long databasePoolLeakDetectionMillis;
+    private int outboundGlobalPerSecond;
+    private int outboundChannelBurst;
+    private long outboundChannelPeriodMillis;
+    private boolean writeBehindEnabled;
+    private long writeBehindFlushIntervalMillis;
+    private String writeBehindSpillFile;
+    private boolean cacheSyncEnabled;
+    private long cacheSyncIntervalMillis;
+    private long cacheSyncOverlapMillis;
+    private boolean shardingEnabled;
+    private int shardTotal;
+    private int shardMin;
+    private int shardMax;
+    private boolean jdaLeanCache;
+    private boolean pruneEnabled;
+    private long pruneDelayMillis;
+    private int pruneMaxPercent;
+    private boolean messageCommandsEnabled;
+    private boolean slashCommandsEnabled;
+    private long outboundMaxAgeMillis;
 
     public ClientConfig() {
         loadConfig();
@@ -36,6 +64,48 @@ public class ClientConfig {
         this.password = properties.getProperty("DATABASE_PASSWORD");
         this.token = properties.getProperty("TOKEN_MAIN");
         this.logFolderPath = properties.getProperty("LOG_FOLDER_PATH");
+        this.logMaxFileSizeMegabytes = getIntProperty("LOG_MAX_FILE_SIZE_MB", 10);
+        this.notifierThreads = getIntProperty("NOTIFIER_THREADS", 2);
+        this.notifierSlowTickMillis = getIntProperty("NOTIFIER_SLOW_TICK_MILLIS", 10000);
+        this.databasePoolEnabled = Boolean.parseBoolean(properties.getProperty("DATABASE_POOL_ENABLED", "true"));
+        this.databasePoolMinIdle = getIntProperty("DATABASE_POOL_MIN_IDLE", 2);
+        this.databasePoolMaxSize = getIntProperty("DATABASE_POOL_MAX_SIZE", 10);
+        this.databasePoolValidationTimeoutMillis = getIntProperty("DATABASE_POOL_VALIDATION_TIMEOUT_MILLIS", 3000);
+        this.databasePoolLeakDetectionMillis = getIntProperty("DATABASE_POOL_LEAK_DETECTION_MILLIS", 10000);
+        this.outboundGlobalPerSecond = getIntProperty("OUTBOUND_GLOBAL_PER_SECOND", 40);
+        this.outboundChannelBurst = getIntProperty("OUTBOUND_CHANNEL_BURST", 5);
+        this.outboundChannelPeriodMillis = getIntProperty("OUTBOUND_CHANNEL_PERIOD_MILLIS", 5000);
+        this.writeBehindEnabled = Boolean.parseBoolean(properties.getProperty("WRITE_BEHIND_ENABLED", "true"));
+        this.writeBehindFlushIntervalMillis = getIntProperty("WRITE_BEHIND_FLUSH_INTERVAL_MILLIS", 1000);
+        this.writeBehindSpillFile = properties.getProperty("WRITE_BEHIND_SPILL_FILE", "/home/discord/write-behind.spill");
+        this.cacheSyncEnabled = Boolean.parseBoolean(properties.getProperty("CACHE_SYNC_ENABLED", "true"));
+        this.cacheSyncIntervalMillis = getIntProperty("CACHE_SYNC_INTERVAL_MILLIS", 5000);
+        this.cacheSyncOverlapMillis = getIntProperty("CACHE_SYNC_OVERLAP_MILLIS", 2000);
+        this.shardingEnabled = Boolean.parseBoolean(properties.getProperty("SHARDING_ENABLED", "false"));
+        this.shardTotal = getIntProperty("SHARD_TOTAL", -1);
+        this.shardMin = getIntProperty("SHARD_MIN", 0);
+        this.shardMax = getIntProperty("SHARD_MAX", -1);
+        this.jdaLeanCache = Boolean.parseBoolean(properties.getProperty("JDA_LEAN_CACHE", "true"));
+        this.pruneEnabled = Boolean.parseBoolean(properties.getProperty("PRUNE_ENABLED", "true"));
+        this.pruneDelayMillis = getIntProperty("PRUNE_DELAY_MILLIS", 10000);
+        this.pruneMaxPercent = getIntProperty("PRUNE_MAX_PERCENT", 50);
+        this.messageCommandsEnabled = Boolean.parseBoolean(properties.getProperty("MESSAGE_COMMANDS_ENABLED", "true"));
+        this.slashCommandsEnabled = Boolean.parseBoolean(properties.getProperty("SLASH_COMMANDS_ENABLED", "true"));
+        this.outboundMaxAgeMillis = getIntProperty("OUTBOUND_MAX_AGE_MILLIS", 900000);
+    }
+
+    private int getIntProperty(String key, int defaultValue) {
+        String value = properties.getProperty(key);
+        if (value == null || value.isBlank()) {
+            return defaultValue;
+        }
+
+        try {
+            return Integer.parseInt(value.trim());
+        } catch (NumberFormatException e) {
+            ClientLogger.createNewClientLogEntry("Invalid value for " + key + ": " + value + ". Using " + defaultValue + ".");
+            return defaultValue;
+        }
     }
 
     public String getHost() {
@@ -66,4 +136,116 @@ public class ClientConfig {
         return logFolderPath;
     }
 
+    public int getLogMaxFileSizeMegabytes() {
+        return logMaxFileSizeMegabytes;
+    }
+
+    public int getNotifierThreads() {
+        return notifierThreads;
+    }
+
+    public long getNotifierSlowTickMillis() {
+        return notifierSlowTickMillis;
+    }
+
+    public boolean isDatabasePoolEnabled() {
+        return databasePoolEnabled;
+    }
+
+    public int getDatabasePoolMinIdle() {
+        return databasePoolMinIdle;
+    }
+
+    public int getDatabasePoolMaxSize() {
+        return databasePoolMaxSize;
+    }
+
+    public long getDatabasePoolValidationTimeoutMillis() {
+        return databasePoolValidationTimeoutMillis;
+    }
+
+    public long getDatabasePoolLeakDetectionMillis() {
+        return databasePoolLeakDetectionMillis;
+    }
+
+    public int getOutboundGlobalPerSecond() {
+        return outboundGlobalPerSecond;
+    }
+
+    public int getOutboundChannelBurst() {
+        return outboundChannelBurst;
+    }
+
+    public long getOutboundChannelPeriodMillis() {
+        return outboundChannelPeriodMillis;
+    }
+
+    public boolean isWriteBehindEnabled() {
+        return writeBehindEnabled;
+    }
+
+    public long getWriteBehindFlushIntervalMillis() {
+        return writeBehindFlushIntervalMillis;
+    }
+
+    public String getWriteBehindSpillFile() {
+        return writeBehindSpillFile;
+    }
+
+    public boolean isCacheSyncEnabled() {
+        return cacheSyncEnabled;
+    }
+
+    public long getCacheSyncIntervalMillis() {
+        return cacheSyncIntervalMillis;
+    }
+
+    public long getCacheSyncOverlapMillis() {
+        return cacheSyncOverlapMillis;
+    }
+
+    public boolean isShardingEnabled() {
+        return shardingEnabled;
+    }
+
+    public int getShardTotal() {
+        return shardTotal;
+    }
+
+    public int getShardMin() {
+        return shardMin;
+    }
+
+    public int getShardMax() {
+        return shardMax;
+    }
+
+    public boolean isJdaLeanCache() {
+        return jdaLeanCache;
+    }
+
+    public boolean isPruneEnabled() {
+        return pruneEnabled;
+    }
+
+    public long getPruneDelayMillis() {
+        return pruneDelayMillis;
+    }
+
+    public int getPruneMaxPercent() {
+        return pruneMaxPercent;
+    }
+
+    public boolean isMessageCommandsEnabled() {
+        return messageCommandsEnabled;
+    }
+
+    public boolean isSlashCommandsEnabled() {
+        return slashCommandsEnabled;
+    }
+
+    public long getOutboundMaxAgeMillis() {
+        return outboundMaxAgeMillis;
+    }
+
 }
@@ -4,88 +4,291 @@ import java.io.BufferedWriter;
 import java.io.File;
 import java.io.FileWriter;
 import java.io.IOException;
+import java.io.Writer;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.LockSupport;
 
+/**
+ * Log entries are put into a lock-free ring buffer and written by a single background thread, so logging never
+ * touches the file system on the caller's thread. When the buffer is full new entries are dropped and counted, error
+ * entries can still use a reserved part of the buffer. Log files roll over every day and when they exceed the
+ * configured size.
+ */
 public class ClientLogger {
 
-    private static File logFolder;
-    private static File logFile;
+    private static final int BUFFER_CAPACITY = 8192;
+    private static final int BUFFER_MASK = BUFFER_CAPACITY - 1;
+    // The last quarter of the buffer is reserved for error entries.
+    private static final int CLIENT_ENTRY_LIMIT = BUFFER_CAPACITY - BUFFER_CAPACITY / 4;
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(50);
+    private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("dd-MM-yyyy");
+    private static final DateTimeFormatter TIME_FORMAT = DateTimeFormatter.ofPattern("HH:mm:ss.SSS");
+
+    private static final AtomicReferenceArray<LogEntry> buffer = new AtomicReferenceArray<>(BUFFER_CAPACITY);
+    private static final AtomicLong tail = new AtomicLong();
+    private static final AtomicLong droppedEntries = new AtomicLong();
+    private static volatile long head;
+
+    private static volatile boolean running;
+    private static volatile Thread writerThread;
+    private static LogFile clientLog;
+    private static LogFile errorLog;
 
     private ClientLogger() {
     }
 
-    public static void checkIfLogFolderExists(String logFolderPath) {
-        logFolder = new File(logFolderPath);
-        if (!doesLogFolderExists()) {
-            logFolder.mkdir();
+    /**
+     * Creates the log folder and starts the writer thread. Entries created before are kept in the buffer.
+     */
+    public static synchronized void start(ClientConfig clientConfig) {
+        if (running) {
+            return;
         }
+
+        File logFolder = new File(clientConfig.getLogFolderPath());
+        if (!logFolder.exists()) {
+            logFolder.mkdirs();
+        }
+
+        long maxFileSize = Math.max(1, clientConfig.getLogMaxFileSizeMegabytes()) * 1024L * 1024L;
+        clientLog = new LogFile(logFolder, "client-log", maxFileSize);
+        errorLog = new LogFile(logFolder, "error-log", maxFileSize);
+
+        running = true;
+        writerThread = new Thread(ClientLogger::writeEntries, "client-logger");
+        writerThread.setDaemon(true);
+        writerThread.start();
+    }
+
+    /**
+     * Writes all buffered entries and stops the writer thread.
+     */
+    public static synchronized void shutdown() {
+        if (!running) {
+            return;
+        }
+
+        running = false;
+        LockSupport.unpark(writerThread);
+        try {
+            writerThread.join(TimeUnit.SECONDS.toMillis(5));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    public static long getDroppedEntries() {
+        return droppedEntries.get();
     }
 
     public static void createNewErrorLogEntry(Exception logMessage) {
-        logFile = new File("/home/discord/logs/error-log.log");
+        publish(new LogEntry(true, System.currentTimeMillis(), logMessage.getMessage(), logMessage.getStackTrace()));
+    }
+
+    public static void createNewClientLogEntry(String logMessage) {
+        publish(new LogEntry(false, System.currentTimeMillis(), logMessage, null));
+    }
+
+    private static void publish(LogEntry logEntry) {
+        int limit = logEntry.error ? BUFFER_CAPACITY : CLIENT_ENTRY_LIMIT;
+        while (true) {
+            long currentTail = tail.get();
+            long size = currentTail - head;
+            if (size >= limit) {
+                droppedEntries.incrementAndGet();
+                return;
+            }
 
-        if (!doesLogFileExist()) {
-            createNewLogFile("client-log");
+            if (tail.compareAndSet(currentTail, currentTail + 1)) {
+                buffer.set((int) (currentTail & BUFFER_MASK), logEntry);
+                if (size == BUFFER_CAPACITY / 2) {
+                    // Wake the writer early instead of waiting for its idle timeout.
+                    Thread writer = writerThread;
+                    if (writer != null) LockSupport.unpark(writer);
+                }
+                return;
+            }
         }
+    }
 
-        BufferedWriter bufferedWriter;
-        try {
-            bufferedWriter = new BufferedWriter(new FileWriter(logFile, true));
-            bufferedWriter.append("\n[")
-                    .append(Time.getCurrentDate())
-                    .append(" ")
-                    .append(Time.getCurrentTime())
-                    .append("] ")
-                    .append(logMessage.getMessage())
-                    .append("\n");
-            for (StackTraceElement e : logMessage.getStackTrace()) {
-                bufferedWriter.append(String.valueOf(e)).append("\n");
+    private static void writeEntries() {
+        long reportedDrops = 0;
+        while (true) {
+            boolean stopping = !running;
+            int written = drain();
+
+            long drops = droppedEntries.get();
+            if (drops != reportedDrops) {
+                clientLog.write(System.currentTimeMillis(), "Log buffer was full. Dropped " + (drops - reportedDrops) + " entries.");
+                reportedDrops = drops;
+                written++;
+            }
+
+            if (written > 0) {
+                clientLog.flush();
+                errorLog.flush();
+            }
+
+            if (stopping) {
+                clientLog.close();
+                errorLog.close();
+                return;
+            }
+
+            if (written == 0) {
+                LockSupport.parkNanos(IDLE_PARK_NANOS);
             }
-            bufferedWriter.close();
-        } catch (IOException e) {
-            e.printStackTrace();
         }
     }
 
-    public static void createNewClientLogEntry(String logMessage) {
-        logFile = new File("/home/discord/logs/client-log.log");
+    /**
+     * Only called by the writer thread.
+     *
+     * @return the amount of written entries.
+     */
+    private static int drain() {
+        int written = 0;
+        long currentHead = head;
+        while (true) {
+            int index = (int) (currentHead & BUFFER_MASK);
+            LogEntry logEntry = buffer.get(index);
+            if (logEntry == null) {
+                // Empty, or a producer claimed the slot but did not publish yet.
+                break;
+            }
 
-        if (!doesLogFileExist()) {
-            createNewLogFile("client-log");
+            buffer.set(index, null);
+            currentHead++;
+            head = currentHead;
+
+            if (logEntry.error) {
+                errorLog.write(logEntry.timestamp, logEntry.message, logEntry.stackTrace);
+            } else {
+                clientLog.write(logEntry.timestamp, logEntry.message);
+            }
+            written++;
         }
+        return written;
+    }
 
-        BufferedWriter bufferedWriter;
-        try {
-            bufferedWriter = new BufferedWriter(new FileWriter(logFile, true));
-            bufferedWriter.append("\n[")
-                    .append(Time.getCurrentDate())
+    private static class LogEntry {
+
+        private final boolean error;
+        private final long timestamp;
+        private final String message;
+        private final StackTraceElement[] stackTrace;
+
+        private LogEntry(boolean error, long timestamp, String message, StackTraceElement[] stackTrace) {
+            this.error = error;
+            this.timestamp = timestamp;
+            this.message = message;
+            this.stackTrace = stackTrace;
+        }
+    }
+
+    /**
+     * A log file which rolls over to {@code name-date.log} every day and to {@code name-date-n.log} when it
+     * exceeds the max size.
+     */
+    private static class LogFile {
+
+        private final File logFolder;
+        private final String name;
+        private final long maxFileSize;
+
+        private Writer writer;
+        private LocalDate currentDate;
+        private int currentIndex;
+        private long currentSize;
+
+        private LogFile(File logFolder, String name, long maxFileSize) {
+            this.logFolder = logFolder;
+            this.name = name;
+            this.maxFileSize = maxFileSize;
+        }
+
+        private void write(long timestamp, String message) {
+            write(timestamp, message, null);
+        }
+
+        private void write(long timestamp, String message, StackTraceElement[] stackTrace) {
+            LocalDateTime dateTime = LocalDateTime.ofInstant(Instant.ofEpochMilli(timestamp), ZoneId.systemDefault());
+
+            StringBuilder entry = new StringBuilder()
+                    .append("\n[")
+                    .append(DATE_FORMAT.format(dateTime))
                     .append(" ")
-                    .append(Time.getCurrentTime())
+                    .append(TIME_FORMAT.format(dateTime))
                     .append("] ")
-                    .append(logMessage);
-            bufferedWriter.close();
-        } catch (IOException e) {
-            e.printStackTrace();
+                    .append(message);
+            if (stackTrace != null) {
+                entry.append("\n");
+                for (StackTraceElement e : stackTrace) {
+                    entry.append(e).append("\n");
+                }
+            }
+
+            try {
+                rollIfNeeded(dateTime.toLocalDate());
+                writer.write(entry.toString());
+                currentSize += entry.length();
+            } catch (IOException e) {
+                e.printStackTrace();
+            }
         }
-    }
 
-    private static void createNewLogFile(String logFileName) {
-        logFile = new File("/home/discord/logs/" + logFileName + ".log");
+        private void rollIfNeeded(LocalDate date) throws IOException {
+            if (writer != null && date.equals(currentDate) && currentSize < maxFileSize) {
+                return;
+            }
 
-        try {
-            logFile.createNewFile();
-            BufferedWriter bufferedWriter = new BufferedWriter(new FileWriter(logFile, true));
-            bufferedWriter.close();
-        } catch (IOException e) {
-            e.printStackTrace();
+            if (!date.equals(currentDate)) {
+                currentDate = date;
+                currentIndex = 0;
+            } else if (writer != null) {
+                currentIndex++;
+            }
+
+            close();
+            File logFile = new File(logFolder, getFileName());
+            while (logFile.length() >= maxFileSize) {
+                currentIndex++;
+                logFile = new File(logFolder, getFileName());
+            }
+
+            writer = new BufferedWriter(new FileWriter(logFile, true));
+            currentSize = logFile.length();
         }
 
-    }
+        private String getFileName() {
+            String date = currentDate.toString();
+            return currentIndex == 0 ? name + "-" + date + ".log" : name + "-" + date + "-" + currentIndex + ".log";
+        }
 
-    private static boolean doesLogFolderExists() {
-        return logFolder.exists();
-    }
+        private void flush() {
+            if (writer == null) return;
+            try {
+                writer.flush();
+            } catch (IOException e) {
+                e.printStackTrace();
+            }
+        }
 
-    private static boolean doesLogFileExist() {
-        return logFile.exists();
+        private void close() {
+            if (writer == null) return;
+            try {
+                writer.close();
+            } catch (IOException e) {
+                e.printStackTrace();
+            }
+            writer = null;
+        }
     }
 }
@@ -0,0 +1,202 @@
+package me.umbreon.diabloimmortalbot.utils;
+
+import me.umbreon.diabloimmortalbot.data.CustomMessage;
+
+import java.time.*;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAdjusters;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * All custom messages, indexed by id, guild and channel. Every message is scheduled at the next instant its day and
+ * time occur in the timezone of its channel, the due messages are popped from a priority queue ordered by that
+ * instant. Messages in channels which are not registered have no timezone and are never scheduled.
+ */
+public class CustomMessageStore {
+
+    private final Function<String, String> channelTimezoneResolver;
+
+    private final Map<Integer, CustomMessage> customMessagesByID = new ConcurrentHashMap<>();
+    private final Map<String, Set<Integer>> customMessagesByGuild = new ConcurrentHashMap<>();
+    private final Map<String, Set<Integer>> customMessagesByChannel = new ConcurrentHashMap<>();
+    private final PriorityQueue<ScheduledCustomMessage> dueQueue = new PriorityQueue<>();
+    // The current schedule of every message, queue entries which are not in here are outdated and skipped.
+    private final Map<Integer, ScheduledCustomMessage> schedules = new HashMap<>();
+
+    /**
+     * @param channelTimezoneResolver returns the timezone of a channel or null if the channel is not registered.
+     */
+    public CustomMessageStore(Function<String, String> channelTimezoneResolver) {
+        this.channelTimezoneResolver = channelTimezoneResolver;
+    }
+
+    public synchronized void setAll(Collection<CustomMessage> customMessages) {
+        customMessagesByID.clear();
+        customMessagesByGuild.clear();
+        customMessagesByChannel.clear();
+        dueQueue.clear();
+        schedules.clear();
+        customMessages.forEach(this::add);
+    }
+
+    public synchronized void add(CustomMessage customMessage) {
+        int customMessageID = customMessage.getCustomMessageID();
+        remove(customMessageID);
+
+        customMessagesByID.put(customMessageID, customMessage);
+        addToIndex(customMessagesByGuild, customMessage.getGuildID(), customMessageID);
+        addToIndex(customMessagesByChannel, customMessage.getChannelID(), customMessageID);
+        schedule(customMessage, Instant.now());
+    }
+
+    /**
+     * @return the removed message or null if there was none with this id.
+     */
+    public synchronized CustomMessage remove(int customMessageID) {
+        CustomMessage customMessage = customMessagesByID.remove(customMessageID);
+        if (customMessage == null) {
+            return null;
+        }
+
+        removeFromIndex(customMessagesByGuild, customMessage.getGuildID(), customMessageID);
+        removeFromIndex(customMessagesByChannel, customMessage.getChannelID(), customMessageID);
+        schedules.remove(customMessageID);
+        return customMessage;
+    }
+
+    /**
+     * Reschedules all messages of a channel in its current timezone. Has to be called whenever a channel is
+     * registered, unregistered or changes its timezone.
+     */
+    public synchronized void reindexChannel(String channelID) {
+        Instant now = Instant.now();
+        for (CustomMessage customMessage : getByChannel(channelID)) {
+            schedule(customMessage, now);
+        }
+    }
+
+    /**
+     * Pops all messages due in the minute of {@code now} and schedules them again for their next occurrence.
+     * Messages whose minute already passed without being polled are only rescheduled, never sent late.
+     * Messages which should not repeat have to be removed by the caller.
+     */
+    public synchronized List<CustomMessage> pollDue(Instant now) {
+        long currentMinute = now.getEpochSecond() / 60;
+        Instant nextMinute = Instant.ofEpochSecond((currentMinute + 1) * 60);
+        List<CustomMessage> dueMessages = new ArrayList<>();
+
+        while (!dueQueue.isEmpty() && dueQueue.peek().dueMinute <= currentMinute) {
+            ScheduledCustomMessage scheduledCustomMessage = dueQueue.poll();
+            if (schedules.get(scheduledCustomMessage.customMessageID) != scheduledCustomMessage) {
+                continue;
+            }
+
+            CustomMessage customMessage = customMessagesByID.get(scheduledCustomMessage.customMessageID);
+            if (scheduledCustomMessage.dueMinute == currentMinute) {
+                dueMessages.add(customMessage);
+            }
+            schedule(customMessage, nextMinute);
+        }
+        return dueMessages;
+    }
+
+    /**
+     * @return the message or null if there is none with this id.
+     */
+    public CustomMessage get(int customMessageID) {
+        return customMessagesByID.get(customMessageID);
+    }
+
+    public Collection<CustomMessage> getAll() {
+        return customMessagesByID.values();
+    }
+
+    public List<CustomMessage> getByGuild(String guildID) {
+        return resolve(customMessagesByGuild.get(guildID));
+    }
+
+    public List<CustomMessage> getByChannel(String channelID) {
+        return resolve(customMessagesByChannel.get(channelID));
+    }
+
+    /**
+     * Schedules the message at its first occurrence in the minute of {@code from} or later.
+     */
+    private void schedule(CustomMessage customMessage, Instant from) {
+        int customMessageID = customMessage.getCustomMessageID();
+        schedules.remove(customMessageID);
+
+        String timezone = channelTimezoneResolver.apply(customMessage.getChannelID());
+        int minuteOfWeek = Time.parseMinuteOfWeek(customMessage.getDay(), customMessage.getTime());
+        ZoneId zoneId = timezone == null ? null : Time.getZoneId(timezone);
+        if (zoneId == null || minuteOfWeek == -1) {
+            return;
+        }
+
+        ScheduledCustomMessage scheduledCustomMessage = new ScheduledCustomMessage(customMessageID,
+                getNextOccurrence(minuteOfWeek, zoneId, from).getEpochSecond() / 60);
+        schedules.put(customMessageID, scheduledCustomMessage);
+        dueQueue.add(scheduledCustomMessage);
+    }
+
+    private Instant getNextOccurrence(int minuteOfWeek, ZoneId zoneId, Instant from) {
+        ZonedDateTime start = from.atZone(zoneId).truncatedTo(ChronoUnit.MINUTES);
+        DayOfWeek dayOfWeek = DayOfWeek.of(minuteOfWeek / (24 * 60) + 1);
+        LocalTime localTime = LocalTime.of(minuteOfWeek % (24 * 60) / 60, minuteOfWeek % 60);
+
+        ZonedDateTime next = start.with(TemporalAdjusters.nextOrSame(dayOfWeek)).with(localTime);
+        if (next.isBefore(start)) {
+            next = start.with(TemporalAdjusters.next(dayOfWeek)).with(localTime);
+        }
+        return next.toInstant();
+    }
+
+    private <K> void addToIndex(Map<K, Set<Integer>> index, K key, int customMessageID) {
+        index.computeIfAbsent(key, k -> ConcurrentHashMap.newKeySet()).add(customMessageID);
+    }
+
+    private <K> void removeFromIndex(Map<K, Set<Integer>> index, K key, int customMessageID) {
+        Set<Integer> customMessageIDs = index.get(key);
+        if (customMessageIDs == null) {
+            return;
+        }
+
+        customMessageIDs.remove(customMessageID);
+        if (customMessageIDs.isEmpty()) {
+            index.remove(key);
+        }
+    }
+
+    private List<CustomMessage> resolve(Set<Integer> customMessageIDs) {
+        if (customMessageIDs == null) {
+            return Collections.emptyList();
+        }
+
+        List<CustomMessage> customMessages = new ArrayList<>(customMessageIDs.size());
+        for (int customMessageID : customMessageIDs) {
+            CustomMessage customMessage = customMessagesByID.get(customMessageID);
+            if (customMessage != null) {
+                customMessages.add(customMessage);
+            }
+        }
+        return customMessages;
+    }
+
+    private static class ScheduledCustomMessage implements Comparable<ScheduledCustomMessage> {
+
+        private final int customMessageID;
+        private final long dueMinute;
+
+        private ScheduledCustomMessage(int customMessageID, long dueMinute) {
+            this.customMessageID = customMessageID;
+            this.dueMinute = dueMinute;
+        }
+
+        @Override
+        public int compareTo(ScheduledCustomMessage other) {
+            return Long.compare(dueMinute, other.dueMinute);
+        }
+    }
+}
@@ -1,62 +1,111 @@
 package me.umbreon.diabloimmortalbot.utils;
 
-import java.text.DateFormat;
-import java.text.SimpleDateFormat;
+import java.time.DateTimeException;
+import java.time.DayOfWeek;
 import java.time.Instant;
+import java.time.LocalTime;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
-import java.time.zone.ZoneRulesException;
-import java.util.Date;
+import java.time.format.ResolverStyle;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 public class Time {
 
     private static final String WEEKDAY_WITH_TIME_HH_MM = "EEEE HH:mm";
-    private static final String TIME_HH_MM = "HH:mm";
     private static final DateTimeFormatter formatter = DateTimeFormatter.ofPattern(WEEKDAY_WITH_TIME_HH_MM);
-    private static final DateTimeFormatter formatter2 = DateTimeFormatter.ofPattern(TIME_HH_MM);
-    private static final DateFormat ddHHyyyy_dateFormat = new SimpleDateFormat("dd-MM-yyyy");
-    private static final DateFormat HHmmssSSS_dateFormat = new SimpleDateFormat("HH:mm:ss.SSS");
+    private static final DateTimeFormatter timeParser = DateTimeFormatter.ofPattern("H:mm").withResolverStyle(ResolverStyle.STRICT);
+
+    private static final Map<String, ZoneId> zoneIdCache = new ConcurrentHashMap<>();
 
     private Time() {
     }
 
     public static String getTimeWithWeekday(String timezone) {
-        try {
-            Instant timeStamp = Instant.now();
-            ZonedDateTime timestampAtGMTPlus1 = timeStamp.atZone(ZoneId.of(timezone, ZoneId.SHORT_IDS));
-            return timestampAtGMTPlus1.format(formatter);
-        } catch (ZoneRulesException e) {
+        return getTimeWithWeekday(timezone, Instant.now());
+    }
+
+    public static String getTimeWithWeekday(String timezone, Instant instant) {
+        ZoneId zoneId = getZoneId(timezone);
+        if (zoneId == null) {
             return "INVALID_TIMEZONE";
         }
+        return instant.atZone(zoneId).format(formatter);
     }
 
-    public static String getTime(String timezone) {
-        try {
-            Instant timeStamp = Instant.now();
-            ZonedDateTime timestampAtGMTPlus1 = timeStamp.atZone(ZoneId.of(timezone, ZoneId.SHORT_IDS));
-            return timestampAtGMTPlus1.format(formatter2);
-        } catch (ZoneRulesException e) {
-            return "INVALID_TIMEZONE";
+    /**
+     * @return minutes since Monday 00:00 in the given timezone or -1 if the timezone is unknown.
+     */
+    public static int getMinuteOfWeek(String timezone, Instant instant) {
+        ZoneId zoneId = getZoneId(timezone);
+        if (zoneId == null) {
+            return -1;
         }
+        ZonedDateTime dateTime = instant.atZone(zoneId);
+        return (dateTime.getDayOfWeek().getValue() - 1) * 24 * 60 + dateTime.getHour() * 60 + dateTime.getMinute();
     }
 
-    public static long getTimeInUnix(String timezone) {
+    /**
+     * Parses the days and times of event schedules and custom messages.
+     *
+     * @param day  e.g. "Wednesday", case is ignored.
+     * @param time e.g. "20:30"
+     * @return minutes since Monday 00:00 or -1 if day or time are invalid.
+     */
+    public static int parseMinuteOfWeek(String day, String time) {
+        int minuteOfDay = parseMinuteOfDay(time);
+        if (minuteOfDay == -1 || day == null) {
+            return -1;
+        }
+
         try {
-            Instant timeStamp = Instant.now();
-            ZonedDateTime timestampAtGMTPlus1 = timeStamp.atZone(ZoneId.of(timezone, ZoneId.SHORT_IDS));
-            return timestampAtGMTPlus1.toEpochSecond();
-        } catch (ZoneRulesException e) {
-            ClientLogger.createNewErrorLogEntry(e);
-            return 0;
+            int dayOfWeek = DayOfWeek.valueOf(day.trim().toUpperCase()).getValue() - 1;
+            return dayOfWeek * 24 * 60 + minuteOfDay;
+        } catch (IllegalArgumentException e) {
+            return -1;
         }
     }
 
-    static String getCurrentDate() {
-        return ddHHyyyy_dateFormat.format(new Date());
+    /**
+     * @param time e.g. "20:30"
+     * @return minutes since 00:00 or -1 if the time is invalid.
+     */
+    public static int parseMinuteOfDay(String time) {
+        if (time == null) {
+            return -1;
+        }
+
+        try {
+            LocalTime localTime = LocalTime.parse(time.trim(), timeParser);
+            return localTime.getHour() * 60 + localTime.getMinute();
+        } catch (DateTimeException e) {
+            return -1;
+        }
     }
 
-    static String getCurrentTime() {
-        return HHmmssSSS_dateFormat.format(new Date());
+    /**
+     * Resolves the timezone once and caches it. Unknown timezones are user input and not cached, they are resolved
+     * again on every call.
+     *
+     * @return the zone or null if the timezone is unknown.
+     */
+    public static ZoneId getZoneId(String timezone) {
+        if (timezone == null) {
+            return null;
+        }
+
+        ZoneId zoneId = zoneIdCache.get(timezone);
+        if (zoneId != null) {
+            return zoneId;
+        }
+
+        try {
+            zoneId = ZoneId.of(timezone, ZoneId.SHORT_IDS);
+        } catch (DateTimeException e) {
+            return null;
+        }
+        zoneIdCache.put(timezone, zoneId);
+        return zoneId;
     }
 }
@@ -0,0 +1,46 @@
+package me.umbreon.diabloimmortalbot.utils;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A fixed instant shared by everything running in the same notifier tick. Every timezone is resolved and formatted
+ * at most once per snapshot, and all events of a tick see the same minute even if the tick crosses a minute boundary.
+ */
+public class TimeSnapshot {
+
+    private final Instant instant;
+    private final Map<String, Integer> minutesOfWeek = new ConcurrentHashMap<>();
+    private final Map<String, String> timesWithWeekday = new ConcurrentHashMap<>();
+
+    public TimeSnapshot(Instant instant) {
+        this.instant = instant;
+    }
+
+    public static TimeSnapshot now() {
+        return new TimeSnapshot(Instant.now());
+    }
+
+    public Instant getInstant() {
+        return instant;
+    }
+
+    public long getEpochSecond() {
+        return instant.getEpochSecond();
+    }
+
+    /**
+     * @return minutes since Monday 00:00 in the given timezone or -1 if the timezone is unknown.
+     */
+    public int getMinuteOfWeek(String timezone) {
+        return minutesOfWeek.computeIfAbsent(timezone, key -> Time.getMinuteOfWeek(key, instant));
+    }
+
+    /**
+     * @return e.g. "Wednesday 20:30" or "INVALID_TIMEZONE".
+     */
+    public String getTimeWithWeekday(String timezone) {
+        return timesWithWeekday.computeIfAbsent(timezone, key -> Time.getTimeWithWeekday(key, instant));
+    }
+}